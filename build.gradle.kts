@@ -4,6 +4,7 @@ plugins {
 	id("io.spring.dependency-management") version "1.1.7"
 	id("org.hibernate.orm") version "6.6.15.Final"
 	id("org.graalvm.buildtools.native") version "0.10.6"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.j30ngwoo"
@@ -29,7 +30,11 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	compileOnly("org.projectlombok:lombok")
 	developmentOnly("org.springframework.boot:spring-boot-devtools")
 	runtimeOnly("com.mysql:mysql-connector-j")
@@ -51,6 +56,50 @@ hibernate {
 	}
 }
 
+// ./gradlew jmh [-PjmhIncludes=OptimizerBenchmark]
+// 일부 조건만: ./gradlew jmhJar 후 java -jar build/libs/*-jmh.jar OptimizerBenchmark -p participants=1000 -p mode=GREEDY -prof gc
+jmh {
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+	warmupIterations = 2
+	warmup = "2s"
+	iterations = 3
+	timeOnIteration = "2s"
+	fork = 1
+	profilers = listOf("gc")
+	resultFormat = "JSON"
+}
+
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 부하 테스트 (src/loadtest): loadtest 프로필(메모리 H2)로 앱을 띄워서 API 호출, 결과는 build/reports/loadtest/report.json
+val loadtest by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+configurations[loadtest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadtest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+// ./gradlew loadTest [-PloadTestConcurrency=64 -PloadTestDuration=60s -PloadTestMix=submit:50,list:15,heatmap:25,optimize:10]
+// 회귀 확인: -PloadTestBaseline=<이전 report.json> (p99 가 loadTestMaxRegression(기본 20%) 넘게 늘거나 오류율 1% 초과 시 실패)
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "Runs the HTTP load test against an in-memory H2 instance"
+	classpath = loadtest.runtimeClasspath
+	mainClass = "com.j30ngwoo.scheduler.loadtest.LoadTestRunner"
+	systemProperty("loadtest.report", layout.buildDirectory.file("reports/loadtest/report.json").get().asFile.path)
+	mapOf(
+		"loadTestConcurrency" to "loadtest.concurrency",
+		"loadTestDuration" to "loadtest.duration",
+		"loadTestWarmup" to "loadtest.warmup",
+		"loadTestUsers" to "loadtest.users",
+		"loadTestParticipants" to "loadtest.participants",
+		"loadTestMix" to "loadtest.mix",
+		"loadTestBaseline" to "loadtest.baseline",
+		"loadTestMaxRegression" to "loadtest.max-regression",
+		"loadTestMaxErrorRate" to "loadtest.max-error-rate"
+	).forEach { (property, key) ->
+		providers.gradleProperty(property).orNull?.let { systemProperty(key, it) }
+	}
+}
@@ -0,0 +1,69 @@
+package com.j30ngwoo.scheduler.benchmark;
+
+import java.util.Random;
+
+// 벤치마크용 가용 시간 생성기. 입력 칸 단위 0/1 문자열 (요일 x 하루 칸 수), 블록 길이는 30분 칸 기준
+public enum AvailabilityPattern {
+
+    // 수업 있는 날: 대부분 가능하지만 1.5시간짜리 수업 2~3개가 빠짐, 수업 없는 날: 긴 블록 하나 또는 불가
+    LECTURE {
+        @Override
+        void fillDay(char[] bits, int from, int units, Random random) {
+            if (random.nextBoolean()) {
+                fill(bits, from, from + units);
+                int lectures = 2 + random.nextInt(2);
+                for (int i = 0; i < lectures && units > 3; i++) {
+                    int start = from + random.nextInt(units - 2);
+                    clear(bits, start, Math.min(start + 3, from + units));
+                }
+            } else if (random.nextInt(10) >= 3) {
+                int length = Math.min(units, 4 + random.nextInt(9));
+                int start = from + random.nextInt(units - length + 1);
+                fill(bits, start, start + length);
+            }
+        }
+    },
+
+    // 하루 0~2개의 짧은 블록 (1~2시간)
+    SPARSE {
+        @Override
+        void fillDay(char[] bits, int from, int units, Random random) {
+            int blocks = random.nextInt(3);
+            for (int i = 0; i < blocks; i++) {
+                int length = Math.min(units, 2 + random.nextInt(3));
+                int start = from + random.nextInt(units - length + 1);
+                fill(bits, start, start + length);
+            }
+        }
+    },
+
+    // 30분 단위마다 85% 확률로 가능
+    DENSE {
+        @Override
+        void fillDay(char[] bits, int from, int units, Random random) {
+            for (int i = from; i < from + units; i++) {
+                if (random.nextInt(100) < 85) bits[i] = '1';
+            }
+        }
+    };
+
+    abstract void fillDay(char[] bits, int from, int units, Random random);
+
+    public String generate(int days, int unitsPerDay, Random random) {
+        char[] bits = new char[days * unitsPerDay];
+        clear(bits, 0, bits.length);
+        if (unitsPerDay == 0) return new String(bits);
+        for (int day = 0; day < days; day++) {
+            fillDay(bits, day * unitsPerDay, unitsPerDay, random);
+        }
+        return new String(bits);
+    }
+
+    private static void fill(char[] bits, int from, int to) {
+        for (int i = from; i < to; i++) bits[i] = '1';
+    }
+
+    private static void clear(char[] bits, int from, int to) {
+        for (int i = from; i < to; i++) bits[i] = '0';
+    }
+}
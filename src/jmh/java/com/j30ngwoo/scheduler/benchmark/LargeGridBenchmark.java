@@ -0,0 +1,71 @@
+package com.j30ngwoo.scheduler.benchmark;
+
+import com.j30ngwoo.scheduler.domain.Availability;
+import com.j30ngwoo.scheduler.domain.Schedule;
+import com.j30ngwoo.scheduler.dto.ScheduleOptimizeRequest;
+import com.j30ngwoo.scheduler.service.OptimizationResultCache;
+import com.j30ngwoo.scheduler.service.ScheduleOptimizerService;
+import com.j30ngwoo.scheduler.service.optimizer.OptimizationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// 일주일(7일) 24시간 30분 / 15분 slot 격자 (336 / 672 slot)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LargeGridBenchmark {
+
+    private static final long SEED = 20240302L;
+
+    @Param({"100", "1000"})
+    public int participants;
+
+    @Param({"30", "15"})
+    public int slotMinutes;
+
+    @Param({"LECTURE", "DENSE"})
+    public AvailabilityPattern pattern;
+
+    @Param({"GREEDY", "MIN_COST_FLOW"})
+    public OptimizationMode mode;
+
+    private ForkJoinPool pool;
+    private OptimizationResultCache cache;
+    private ScheduleOptimizerService service;
+    private ScheduleOptimizeRequest request;
+    private Long scheduleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Schedule schedule = OptimizerFixture.schedule(participants, 0, 24, 7, slotMinutes);
+        List<Availability> availabilities = OptimizerFixture.availabilities(schedule, participants, pattern, SEED);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        cache = OptimizerFixture.resultCache();
+        service = OptimizerFixture.service(schedule, availabilities, cache, pool);
+        request = new ScheduleOptimizeRequest(true, true, mode, false);
+        scheduleId = schedule.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public List<ScheduleOptimizerService.Assignment> optimize() {
+        cache.invalidate(scheduleId);
+        return service.optimize(OptimizerFixture.CODE, request);
+    }
+}
@@ -0,0 +1,83 @@
+package com.j30ngwoo.scheduler.benchmark;
+
+import com.j30ngwoo.scheduler.domain.Availability;
+import com.j30ngwoo.scheduler.domain.Schedule;
+import com.j30ngwoo.scheduler.dto.ScheduleOptimizeRequest;
+import com.j30ngwoo.scheduler.service.OptimizationResultCache;
+import com.j30ngwoo.scheduler.service.ScheduleOptimizerService;
+import com.j30ngwoo.scheduler.service.optimizer.OptimizationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// ScheduleOptimizerService.optimize 전체 경로 (slot 마스크 계산 ~ Assignment 생성) 벤치마크
+// 결과 캐시는 매 호출 전에 무효화해서 항상 계산하도록 함
+// 기본 @Param 은 대표 조건만 (12개 조합). 전체 조합은 -p 로 지정:
+// java -jar build/libs/*-jmh.jar OptimizerBenchmark -p participants=10,100,1000,10000 -p hoursPerDay=9,14,24
+//   -p pattern=LECTURE,SPARSE,DENSE -p isLectureDayWorkPriority=true,false -p applyTravelTimeBuffer=true,false
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OptimizerBenchmark {
+
+    private static final long SEED = 20240301L;
+
+    @Param({"100", "1000"})
+    public int participants;
+
+    // 9-18시, 8-22시, 0-24시
+    @Param({"9"})
+    public int hoursPerDay;
+
+    @Param({"LECTURE", "DENSE"})
+    public AvailabilityPattern pattern;
+
+    @Param({"GREEDY", "MIN_COST_FLOW", "PORTFOLIO"})
+    public OptimizationMode mode;
+
+    @Param({"false"})
+    public boolean isLectureDayWorkPriority;
+
+    @Param({"false"})
+    public boolean applyTravelTimeBuffer;
+
+    private ForkJoinPool pool;
+    private OptimizationResultCache cache;
+    private ScheduleOptimizerService service;
+    private ScheduleOptimizeRequest request;
+    private Long scheduleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int startHour = Math.max(0, Math.min(9, 22 - hoursPerDay));
+        Schedule schedule = OptimizerFixture.schedule(participants, startHour, hoursPerDay);
+        List<Availability> availabilities = OptimizerFixture.availabilities(schedule, participants, pattern, SEED);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        cache = OptimizerFixture.resultCache();
+        service = OptimizerFixture.service(schedule, availabilities, cache, pool);
+        request = new ScheduleOptimizeRequest(isLectureDayWorkPriority, applyTravelTimeBuffer, mode, false);
+        scheduleId = schedule.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public List<ScheduleOptimizerService.Assignment> optimize() {
+        cache.invalidate(scheduleId);
+        return service.optimize(OptimizerFixture.CODE, request);
+    }
+}
@@ -0,0 +1,125 @@
+package com.j30ngwoo.scheduler.benchmark;
+
+import com.j30ngwoo.scheduler.domain.Availability;
+import com.j30ngwoo.scheduler.domain.AvailabilityBits;
+import com.j30ngwoo.scheduler.domain.Schedule;
+import com.j30ngwoo.scheduler.repository.AvailabilityRepository;
+import com.j30ngwoo.scheduler.repository.ScheduleRepository;
+import com.j30ngwoo.scheduler.service.OptimizationResultCache;
+import com.j30ngwoo.scheduler.service.OptimizationSnapshotStore;
+import com.j30ngwoo.scheduler.service.OptimizerMetrics;
+import com.j30ngwoo.scheduler.service.ScheduleCache;
+import com.j30ngwoo.scheduler.service.ScheduleOptimizerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+// Spring / DB 없이 ScheduleOptimizerService 를 구성. 리포지토리는 메모리 데이터를 돌려주는 Proxy
+final class OptimizerFixture {
+
+    static final String CODE = "bench";
+    private OptimizerFixture() {
+    }
+
+    static Schedule schedule(int participants, int startHour, int hoursPerDay) {
+        return schedule(participants, startHour, hoursPerDay, Schedule.DEFAULT_DAYS, Schedule.DEFAULT_SLOT_MINUTES);
+    }
+
+    static Schedule schedule(int participants, int startHour, int hoursPerDay, int days, int slotMinutes) {
+        return Schedule.builder()
+                .id(1L)
+                .code(CODE)
+                .title("benchmark")
+                .startHour(startHour)
+                .endHour(startHour + hoursPerDay)
+                .minHoursPerParticipant(2)
+                .maxHoursPerParticipant(10)
+                .participantsPerSlot(Math.max(1, participants / 20))
+                .days(days)
+                .slotMinutes(slotMinutes)
+                .build();
+    }
+
+    static List<Availability> availabilities(Schedule schedule, int participants, AvailabilityPattern pattern, long seed) {
+        Random random = new Random(seed);
+        int unitsPerDay = (schedule.getEndHour() - schedule.getStartHour()) * 60 / schedule.unitMinutes();
+        List<Availability> availabilities = new ArrayList<>(participants);
+        for (int i = 0; i < participants; i++) {
+            availabilities.add(Availability.builder()
+                    .id((long) i + 1)
+                    .participantName("participant-" + i)
+                    .availabilityBits(AvailabilityBits.parse(pattern.generate(schedule.daysOrDefault(), unitsPerDay, random)))
+                    .schedule(schedule)
+                    .build());
+        }
+        return availabilities;
+    }
+
+    static ScheduleOptimizerService service(Schedule schedule, List<Availability> availabilities,
+                                            OptimizationResultCache cache, ForkJoinPool pool) {
+        ScheduleRepository scheduleRepository = stub(ScheduleRepository.class, Map.of(
+                "findByCode", args -> CODE.equals(args[0]) ? Optional.of(schedule) : Optional.empty()
+        ));
+        AvailabilityRepository availabilityRepository = stub(AvailabilityRepository.class, Map.of(
+                "findAllBySchedule", args -> availabilities
+        ));
+        ScheduleCache scheduleCache = new ScheduleCache(scheduleRepository);
+        setField(scheduleCache, "maximumSize", 100L);
+        setField(scheduleCache, "expireAfterWrite", Duration.ofMinutes(5));
+        scheduleCache.init();
+        ScheduleOptimizerService service = new ScheduleOptimizerService(
+                scheduleCache, availabilityRepository, new OptimizationSnapshotStore(), cache, pool,
+                new OptimizerMetrics(new SimpleMeterRegistry(), Duration.ofMinutes(1))
+        );
+        setField(service, "portfolioRuns", 16);
+        setField(service, "portfolioBudget", Duration.ofMillis(500));
+        return service;
+    }
+
+    static OptimizationResultCache resultCache() {
+        OptimizationResultCache cache = new OptimizationResultCache();
+        setField(cache, "maximumSize", 1000L);
+        setField(cache, "expireAfterWrite", Duration.ofMinutes(10));
+        cache.init();
+        return cache;
+    }
+
+    // 지정한 메서드만 구현한 리포지토리, 그 외 호출은 실패
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, StubMethod> methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            StubMethod stub = methods.get(method.getName());
+            if (stub != null) return stub.invoke(args);
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "Stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        });
+    }
+
+    // @Value 필드 주입 대신 사용
+    private static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    interface StubMethod {
+        Object invoke(Object[] args);
+    }
+}
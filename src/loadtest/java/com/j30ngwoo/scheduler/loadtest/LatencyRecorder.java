@@ -0,0 +1,68 @@
+package com.j30ngwoo.scheduler.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// endpoint 하나의 응답 시간 기록. 요청 수가 수십만 건 수준이라 전부 보관했다가 정렬해서 백분위 계산
+final class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    synchronized void record(long nanos, boolean error) {
+        if (size == latencies.length) latencies = Arrays.copyOf(latencies, size * 2);
+        latencies[size++] = nanos;
+        if (error) errors++;
+    }
+
+    synchronized Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        return new Summary(
+                size,
+                errors,
+                seconds > 0 ? size / seconds : 0,
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.95)),
+                millis(percentile(sorted, 0.99)),
+                millis(size > 0 ? sorted[size - 1] : 0)
+        );
+    }
+
+    // nearest-rank
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    record Summary(long requests, long errors, double throughput, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        double errorRate() {
+            return requests > 0 ? errors / (double) requests : 0;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", requests);
+            map.put("errors", errors);
+            map.put("throughput", round(throughput));
+            map.put("p50Ms", round(p50Ms));
+            map.put("p95Ms", round(p95Ms));
+            map.put("p99Ms", round(p99Ms));
+            map.put("maxMs", round(maxMs));
+            return map;
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
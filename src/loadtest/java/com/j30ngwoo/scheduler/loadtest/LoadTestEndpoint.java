@@ -0,0 +1,15 @@
+package com.j30ngwoo.scheduler.loadtest;
+
+import java.util.Locale;
+
+// 부하 테스트에서 호출하는 API
+enum LoadTestEndpoint {
+    SUBMIT,    // POST /api/schedules/{code}/availability (기존 참가자 수정 위주, 일부 신규)
+    LIST,      // GET  /api/schedules/summary
+    HEATMAP,   // GET  /api/schedules/{code}/availability/heatmap
+    OPTIMIZE;  // POST /api/schedules/{code}/optimize
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
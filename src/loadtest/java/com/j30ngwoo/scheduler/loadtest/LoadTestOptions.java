@@ -0,0 +1,63 @@
+package com.j30ngwoo.scheduler.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+// 부하 테스트 설정. gradle 속성(-PloadTest...)이 loadtest.* 시스템 속성으로 넘어옴
+record LoadTestOptions(
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        int users,                       // 사용자 수 (사용자마다 스케줄 1개)
+        int participants,                // 스케줄별 미리 등록할 참가자 수
+        Map<LoadTestEndpoint, Integer> mix,
+        Path report,
+        Path baseline,                   // null 이면 비교 안 함
+        double maxRegression,            // baseline 대비 허용하는 p99 증가율
+        double maxErrorRate
+) {
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Integer.getInteger("loadtest.concurrency", 32),
+                duration("loadtest.duration", "30s"),
+                duration("loadtest.warmup", "5s"),
+                Integer.getInteger("loadtest.users", 20),
+                Integer.getInteger("loadtest.participants", 30),
+                mix(System.getProperty("loadtest.mix", "submit:50,list:15,heatmap:25,optimize:10")),
+                Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/report.json")),
+                blankToNull(System.getProperty("loadtest.baseline")),
+                Double.parseDouble(System.getProperty("loadtest.max-regression", "0.2")),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"))
+        );
+    }
+
+    // "submit:50,list:15" -> 요청 비율 (빠진 endpoint 는 0)
+    static Map<LoadTestEndpoint, Integer> mix(String value) {
+        Map<LoadTestEndpoint, Integer> mix = new EnumMap<>(LoadTestEndpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("invalid mix entry: " + entry);
+            }
+            mix.put(LoadTestEndpoint.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(pair[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix has no weight: " + value);
+        }
+        return mix;
+    }
+
+    private static Duration duration(String key, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(key, defaultValue));
+    }
+
+    private static Path blankToNull(String value) {
+        return value == null || value.isBlank() ? null : Path.of(value);
+    }
+}
@@ -0,0 +1,278 @@
+package com.j30ngwoo.scheduler.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.j30ngwoo.scheduler.SchedulerApplication;
+import com.j30ngwoo.scheduler.domain.User;
+import com.j30ngwoo.scheduler.repository.UserRepository;
+import com.j30ngwoo.scheduler.service.AuthService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 부하 테스트: loadtest 프로필(메모리 H2)로 앱을 띄우고, 사용자 / 스케줄 / 참가자를 미리 만든 뒤
+// 정해진 동시성으로 제출 / 목록 / 히트맵 / 최적화 요청을 비율대로 섞어 보냄 (요청마다 응답을 기다리는 closed-loop)
+// endpoint 별 p50 / p95 / p99 / 처리량을 report 파일로 남기고, baseline 이 주어지면 p99 증가율 / 오류율로 실패 처리
+// 앱과 부하 발생기가 같은 JVM 이라 절대값보다는 이전 결과와의 비교용
+public final class LoadTestRunner {
+
+    // 09~18시, 5일, 1시간 slot (입력은 30분 단위) -> 가용 시간 90칸
+    private static final int START_HOUR = 9;
+    private static final int END_HOUR = 18;
+    private static final int DAYS = 5;
+    private static final int AVAILABILITY_LENGTH = DAYS * (END_HOUR - START_HOUR) * 2;
+    private static final long KAKAO_ID_BASE = 9_000_000_000L;
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<LoadTestEndpoint, LatencyRecorder> recorders = new EnumMap<>(LoadTestEndpoint.class);
+    private String baseUrl;
+
+    private LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        for (LoadTestEndpoint endpoint : LoadTestEndpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        boolean passed;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SchedulerApplication.class)
+                .profiles("loadtest")
+                .run(args)) {
+            passed = new LoadTestRunner(options).run(context);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run(ConfigurableApplicationContext context) throws Exception {
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        baseUrl = "http://localhost:" + port;
+
+        List<Tenant> tenants = seed(context);
+        System.out.printf("[loadtest] 사용자 %d명, 스케줄당 참가자 %d명 준비 완료 - 동시성 %d, 워밍업 %s, 측정 %s%n",
+                tenants.size(), options.participants(), options.concurrency(), options.warmup(), options.duration());
+
+        long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+        long end = warmupEnd + options.duration().toNanos();
+        try (ExecutorService workers = Executors.newFixedThreadPool(options.concurrency())) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                workers.submit(() -> drive(tenants, warmupEnd, end));
+            }
+        }
+
+        Map<LoadTestEndpoint, LatencyRecorder.Summary> summaries = new EnumMap<>(LoadTestEndpoint.class);
+        double seconds = options.duration().toNanos() / 1e9;
+        recorders.forEach((endpoint, recorder) -> summaries.put(endpoint, recorder.summarize(seconds)));
+
+        writeReport(summaries);
+        scrapeMetrics(context);
+        return checkBaseline(summaries);
+    }
+
+    // 사용자는 리포지토리로 직접 만들고 토큰 발급, 스케줄 / 참가자 일정은 API 로 등록
+    private List<Tenant> seed(ConfigurableApplicationContext context) throws IOException, InterruptedException {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        AuthService authService = context.getBean(AuthService.class);
+
+        List<Tenant> tenants = new ArrayList<>(options.users());
+        for (int i = 0; i < options.users(); i++) {
+            User user = userRepository.save(User.builder()
+                    .kakaoId(KAKAO_ID_BASE + i)
+                    .name("loadtest-" + i)
+                    .build());
+            String token = authService.createAccessToken(user.getId());
+
+            Map<String, Object> schedule = new LinkedHashMap<>();
+            schedule.put("title", "loadtest-" + i);
+            schedule.put("startHour", START_HOUR);
+            schedule.put("endHour", END_HOUR);
+            schedule.put("minHoursPerParticipant", 2);
+            schedule.put("maxHoursPerParticipant", 10);
+            schedule.put("participantsPerSlot", 2);
+            schedule.put("days", DAYS);
+            schedule.put("slotMinutes", 60);
+            HttpResponse<String> created = send(post("/api/schedules", token, schedule));
+            if (created.statusCode() != 200) {
+                throw new IllegalStateException("seed failed: " + created.statusCode() + " " + created.body());
+            }
+            String code = objectMapper.readTree(created.body()).path("data").path("code").asText();
+
+            List<Map<String, Object>> participants = new ArrayList<>(options.participants());
+            for (int p = 0; p < options.participants(); p++) {
+                participants.add(submission("participant-" + p));
+            }
+            HttpResponse<String> imported = send(post("/api/schedules/" + code + "/availability/bulk", token, participants));
+            if (imported.statusCode() != 200) {
+                throw new IllegalStateException("seed failed: " + imported.statusCode() + " " + imported.body());
+            }
+            tenants.add(new Tenant(token, code));
+        }
+        return tenants;
+    }
+
+    private void drive(List<Tenant> tenants, long warmupEnd, long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int totalWeight = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= end) return;
+
+            Tenant tenant = tenants.get(random.nextInt(tenants.size()));
+            LoadTestEndpoint endpoint = pick(random.nextInt(totalWeight));
+            boolean error;
+            try {
+                error = send(request(endpoint, tenant, random)).statusCode() >= 400;
+            } catch (IOException e) {
+                error = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (start >= warmupEnd) {
+                recorders.get(endpoint).record(System.nanoTime() - start, error);
+            }
+        }
+    }
+
+    private LoadTestEndpoint pick(int roll) {
+        for (Map.Entry<LoadTestEndpoint, Integer> entry : options.mix().entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) return entry.getKey();
+        }
+        throw new IllegalStateException();
+    }
+
+    private HttpRequest request(LoadTestEndpoint endpoint, Tenant tenant, ThreadLocalRandom random) throws IOException {
+        String schedulePath = "/api/schedules/" + tenant.code();
+        return switch (endpoint) {
+            // 참가자 10% 정도는 새 이름 (insert), 나머지는 기존 참가자 수정 (update)
+            case SUBMIT -> post(schedulePath + "/availability", tenant.token(),
+                    submission("participant-" + random.nextInt(options.participants() + options.participants() / 10 + 1)));
+            case LIST -> get("/api/schedules/summary?page=0&size=20", tenant.token());
+            case HEATMAP -> get(schedulePath + "/availability/heatmap", tenant.token());
+            case OPTIMIZE -> post(schedulePath + "/optimize", tenant.token(), Map.of());
+        };
+    }
+
+    private static Map<String, Object> submission(String participantName) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] bits = new char[AVAILABILITY_LENGTH];
+        for (int i = 0; i < bits.length; i++) bits[i] = random.nextInt(100) < 40 ? '1' : '0';
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("participantName", participantName);
+        body.put("availabilityBinary", new String(bits));
+        return body;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void writeReport(Map<LoadTestEndpoint, LatencyRecorder.Summary> summaries) throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        summaries.forEach((endpoint, summary) -> {
+            if (summary.requests() > 0) endpoints.put(endpoint.key(), summary.toMap());
+        });
+        Map<String, Object> mix = new LinkedHashMap<>();
+        options.mix().forEach((endpoint, weight) -> mix.put(endpoint.key(), weight));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("concurrency", options.concurrency());
+        report.put("durationSeconds", options.duration().toSeconds());
+        report.put("users", options.users());
+        report.put("participants", options.participants());
+        report.put("mix", mix);
+        report.put("endpoints", endpoints);
+
+        Path path = options.report();
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+
+        System.out.printf("%n%-10s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)");
+        summaries.forEach((endpoint, s) -> System.out.printf("%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                endpoint.key(), s.requests(), s.errors(), s.throughput(), s.p50Ms(), s.p95Ms(), s.p99Ms()));
+        System.out.println("[loadtest] report: " + path.toAbsolutePath());
+    }
+
+    // 최적화 단계별 지표 등은 report 옆에 prometheus.txt 로 저장
+    private void scrapeMetrics(ConfigurableApplicationContext context) {
+        Integer managementPort = context.getEnvironment().getProperty("local.management.port", Integer.class);
+        if (managementPort == null) return;
+        try {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + managementPort + "/actuator/prometheus")).GET().build());
+            Path path = options.report().resolveSibling("prometheus.txt");
+            Files.writeString(path, response.body());
+        } catch (IOException e) {
+            System.out.println("[loadtest] 지표 수집 실패: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // baseline 보다 p99 가 maxRegression 이상 늘었거나 오류율이 maxErrorRate 를 넘으면 실패
+    private boolean checkBaseline(Map<LoadTestEndpoint, LatencyRecorder.Summary> summaries) throws IOException {
+        List<String> failures = new ArrayList<>();
+        JsonNode baseline = options.baseline() != null && Files.exists(options.baseline())
+                ? objectMapper.readTree(options.baseline().toFile()).path("endpoints")
+                : null;
+        summaries.forEach((endpoint, summary) -> {
+            if (summary.requests() == 0) return;
+            if (summary.errorRate() > options.maxErrorRate()) {
+                failures.add(String.format("%s 오류율 %.2f%%", endpoint.key(), summary.errorRate() * 100));
+            }
+            JsonNode base = baseline != null ? baseline.path(endpoint.key()).path("p99Ms") : null;
+            if (base != null && base.isNumber() && summary.p99Ms() > base.asDouble() * (1 + options.maxRegression())) {
+                failures.add(String.format("%s p99 %.2fms (baseline %.2fms)", endpoint.key(), summary.p99Ms(), base.asDouble()));
+            }
+        });
+        if (options.baseline() != null && baseline == null) {
+            System.out.println("[loadtest] baseline 없음, 비교 생략: " + options.baseline());
+        }
+        failures.forEach(failure -> System.out.println("[loadtest] 실패: " + failure));
+        return failures.isEmpty();
+    }
+
+    private record Tenant(String token, String code) {}
+}
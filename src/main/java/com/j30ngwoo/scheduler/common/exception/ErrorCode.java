@@ -20,6 +20,13 @@ public enum ErrorCode {
     // 토큰
     REFRESH_TOKEN_INVALID("유효하지 않은 리프레시 토큰입니다", HttpStatus.UNAUTHORIZED),
 
+    // 가용 시간
+    INVALID_AVAILABILITY("가용 시간 형식 또는 길이가 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+
+    // 최적화
+    OPTIMIZATION_JOB_NOT_FOUND("최적화 작업을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    TOO_MANY_OPTIMIZATION_JOBS("대기 중인 최적화 작업이 너무 많습니다", HttpStatus.TOO_MANY_REQUESTS),
+
     // OAUTH
     OAUTH_COMMUNICATION_FAILED("외부 OAuth 서버와의 통신에 실패했습니다", HttpStatus.BAD_GATEWAY);
 
@@ -5,40 +5,84 @@ import com.j30ngwoo.scheduler.common.exception.ErrorCode;
 import com.j30ngwoo.scheduler.domain.User;
 import com.j30ngwoo.scheduler.repository.UserRepository;
 import com.j30ngwoo.scheduler.service.AuthService;
+import com.j30ngwoo.scheduler.service.AuthenticatedUserCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.util.concurrent.TimeUnit;
+
 @Component
-@RequiredArgsConstructor
 public class AuthInterceptor implements HandlerInterceptor {
 
     private final AuthService authService;
     private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
+
+    // 인증 소요 시간 (result: 캐시 적중 / 토큰 검증 / 거부)
+    private final Timer cacheHitTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+
+    public AuthInterceptor(
+            AuthService authService,
+            UserRepository userRepository,
+            AuthenticatedUserCache authenticatedUserCache,
+            MeterRegistry meterRegistry
+    ) {
+        this.authService = authService;
+        this.userRepository = userRepository;
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.cacheHitTimer = authTimer(meterRegistry, "cache_hit");
+        this.verifiedTimer = authTimer(meterRegistry, "verified");
+        this.rejectedTimer = authTimer(meterRegistry, "rejected");
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, @Nullable HttpServletResponse response, @Nullable Object handler) throws Exception {
-        String authHeader = request.getHeader("Authorization");
+        long start = System.nanoTime();
+        Timer timer = rejectedTimer;
+        try {
+            String authHeader = request.getHeader("Authorization");
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new AppException(ErrorCode.UNAUTHORIZED);
-        }
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                throw new AppException(ErrorCode.UNAUTHORIZED);
+            }
 
-        String accessToken = authHeader.substring(7);
-        Long userId;
-        try {
-            userId = authService.parseSubject(accessToken);
-        } catch (Exception e) {
-            throw new AppException(ErrorCode.UNAUTHORIZED);
-        }
+            String accessToken = authHeader.substring(7);
+            User user = authenticatedUserCache.get(accessToken);
+            if (user == null) {
+                AuthService.VerifiedToken verified;
+                try {
+                    verified = authService.verifyAccessToken(accessToken);
+                } catch (Exception e) {
+                    throw new AppException(ErrorCode.UNAUTHORIZED);
+                }
+
+                user = userRepository.findById(verified.userId())
+                        .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
+                authenticatedUserCache.put(accessToken, user, verified.expiresAt());
+                timer = verifiedTimer;
+            } else {
+                timer = cacheHitTimer;
+            }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
+            request.setAttribute("currentUser", user);
+            return true;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
 
-        request.setAttribute("currentUser", user);
-        return true;
+    private static Timer authTimer(MeterRegistry registry, String result) {
+        return Timer.builder("scheduler.auth.interceptor")
+                .description("요청 인증 소요 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(registry);
     }
 }
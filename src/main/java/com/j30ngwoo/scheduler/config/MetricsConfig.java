@@ -0,0 +1,17 @@
+package com.j30ngwoo.scheduler.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // @Timed 를 붙인 bean 메서드 소요 시간 기록 (AvailabilityService, AvailabilityBatchRepository)
+    // JPA 리포지토리는 spring.data.repository.invocations 로 자동 기록
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
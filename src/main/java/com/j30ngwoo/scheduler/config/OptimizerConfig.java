@@ -0,0 +1,17 @@
+package com.j30ngwoo.scheduler.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class OptimizerConfig {
+
+    // 포트폴리오 최적화 전용 pool (0 이면 코어 수)
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool optimizerPool(@Value("${optimizer.portfolio.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -1,13 +1,30 @@
 package com.j30ngwoo.scheduler.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class RestClientConfig {
+
+    // JDK HttpClient: 커넥션 재사용(keep-alive) + 연결 / 응답 시간 제한
     @Bean
-    public RestClient restClient() {
-        return RestClient.builder().build();
+    public RestClient restClient(
+            @Value("${auth.kakao.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${auth.kakao.http.read-timeout:3s}") Duration readTimeout
+    ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
     }
-}
\ No newline at end of file
+}
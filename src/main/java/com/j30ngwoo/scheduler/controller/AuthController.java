@@ -31,14 +31,15 @@ public class AuthController {
     @Value("${app.root-domain}")
     private String appRootDomain;
 
+    @Value("${auth.kakao.auth-base-url:https://kauth.kakao.com}")
+    private String kakaoAuthBaseUrl;
+
     private final KakaoOAuthService kakaoOAuthService;
     private final AuthService authService;
 
     @GetMapping("/kakao/login")
     public ResponseEntity<Void> redirectToKakao() {
-        URI kakaoLoginUri = UriComponentsBuilder.newInstance()
-                .scheme("https")
-                .host("kauth.kakao.com")
+        URI kakaoLoginUri = UriComponentsBuilder.fromUriString(kakaoAuthBaseUrl)
                 .path("/oauth/authorize")
                 .queryParam("client_id", clientId)
                 .queryParam("redirect_uri", redirectUri)
@@ -1,13 +1,18 @@
 package com.j30ngwoo.scheduler.controller;
 
 import com.j30ngwoo.scheduler.common.response.ApiResponse;
+import com.j30ngwoo.scheduler.dto.AvailabilityHeatmapResponse;
+import com.j30ngwoo.scheduler.dto.AvailabilityImportResponse;
 import com.j30ngwoo.scheduler.dto.AvailabilityResponse;
 import com.j30ngwoo.scheduler.dto.AvailabilitySubmitRequest;
 import com.j30ngwoo.scheduler.service.AvailabilityService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -25,11 +30,28 @@ public class AvailabilityController {
         return ApiResponse.success(availabilityService.submitAvailability(code, request));
     }
 
+    // 본문: AvailabilitySubmitRequest 의 JSON 배열 (availability.import.max-entries 개까지 모두 읽고 검사한 뒤 batch upsert 로 저장)
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<AvailabilityImportResponse> importAll(
+            @PathVariable String code,
+            HttpServletRequest request
+    ) throws IOException {
+        return ApiResponse.success(availabilityService.importAvailabilities(code, request.getInputStream()));
+    }
+
     @GetMapping
     public ApiResponse<List<AvailabilityResponse>> getAll(@PathVariable String code) {
         return ApiResponse.success(availabilityService.getAvailabilityList(code));
     }
 
+    @GetMapping("/heatmap")
+    public ApiResponse<AvailabilityHeatmapResponse> getHeatmap(
+            @PathVariable String code,
+            @RequestParam(required = false) Integer slot
+    ) {
+        return ApiResponse.success(availabilityService.getHeatmap(code, slot));
+    }
+
     @DeleteMapping("/{availabilityId}")
     public ApiResponse<Void> delete(
             @PathVariable String code,
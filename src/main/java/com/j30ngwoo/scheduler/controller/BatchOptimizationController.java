@@ -0,0 +1,28 @@
+package com.j30ngwoo.scheduler.controller;
+
+import com.j30ngwoo.scheduler.common.response.ApiResponse;
+import com.j30ngwoo.scheduler.config.resolver.CurrentUser;
+import com.j30ngwoo.scheduler.domain.User;
+import com.j30ngwoo.scheduler.dto.BatchOptimizeRequest;
+import com.j30ngwoo.scheduler.dto.BatchOptimizeResult;
+import com.j30ngwoo.scheduler.service.BatchOptimizationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/schedules/batch-optimize")
+@RequiredArgsConstructor
+public class BatchOptimizationController {
+
+    private final BatchOptimizationService batchOptimizationService;
+
+    @PostMapping
+    public ApiResponse<List<BatchOptimizeResult>> optimizeSchedules(
+            @RequestBody BatchOptimizeRequest req,
+            @CurrentUser User currentUser
+    ) {
+        return ApiResponse.success(batchOptimizationService.optimize(req, currentUser));
+    }
+}
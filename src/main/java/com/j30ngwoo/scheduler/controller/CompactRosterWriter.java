@@ -0,0 +1,53 @@
+package com.j30ngwoo.scheduler.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.j30ngwoo.scheduler.service.ScheduleOptimizerService;
+import com.j30ngwoo.scheduler.service.optimizer.Roster;
+
+import java.io.IOException;
+
+// 최적화 결과 compact 응답. 배정마다 slot 객체를 반복하는 대신 참가자 이름 사전 + slot 별 참가자 번호 배열로 직렬화
+// ApiResponse 와 같은 형태로 감싸서 바로 응답 스트림에 씀
+// {"success":true,"data":{"days":5,"slotsPerDay":9,"startMinute":540,"slotMinutes":60,
+//   "participants":["A","B"],"slots":[[0,1],[1],[],...]},"errorCode":null,"message":null}
+// slots[day * slotsPerDay + i] 는 day 요일 i 번째 slot (시작 시각 = startMinute + i * slotMinutes 분)
+final class CompactRosterWriter {
+
+    static final String MEDIA_TYPE = "application/vnd.scheduler.roster+json";
+
+    private CompactRosterWriter() {
+    }
+
+    static void write(JsonGenerator gen, ScheduleOptimizerService.OptimizationResult result) throws IOException {
+        Roster roster = result.roster();
+
+        gen.writeStartObject();
+        gen.writeBooleanField("success", true);
+        gen.writeObjectFieldStart("data");
+        gen.writeNumberField("days", result.days());
+        gen.writeNumberField("slotsPerDay", result.slotsPerDay());
+        gen.writeNumberField("startMinute", result.startMinute());
+        gen.writeNumberField("slotMinutes", result.slotMinutes());
+
+        gen.writeArrayFieldStart("participants");
+        for (int id = 0; id < roster.participantCount(); id++) {
+            gen.writeString(roster.name(id));
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("slots");
+        for (int slot = 0; slot < roster.totalSlots(); slot++) {
+            gen.writeStartArray();
+            for (int i = 0; i < roster.count(slot); i++) {
+                gen.writeNumber(roster.participant(slot, i));
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+
+        gen.writeEndObject();
+        gen.writeNullField("errorCode");
+        gen.writeNullField("message");
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,22 @@
+package com.j30ngwoo.scheduler.controller;
+
+import com.j30ngwoo.scheduler.common.response.ApiResponse;
+import com.j30ngwoo.scheduler.dto.OptimizationCacheStatsResponse;
+import com.j30ngwoo.scheduler.service.ScheduleOptimizerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/optimizer/cache")
+@RequiredArgsConstructor
+public class OptimizationCacheController {
+
+    private final ScheduleOptimizerService optimizerService;
+
+    @GetMapping("/stats")
+    public ApiResponse<OptimizationCacheStatsResponse> getStats() {
+        return ApiResponse.success(optimizerService.getCacheStats());
+    }
+}
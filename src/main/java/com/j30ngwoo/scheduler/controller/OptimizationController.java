@@ -1,10 +1,18 @@
 package com.j30ngwoo.scheduler.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.j30ngwoo.scheduler.common.response.ApiResponse;
+import com.j30ngwoo.scheduler.dto.OptimizationExplainResponse;
+import com.j30ngwoo.scheduler.dto.OptimizationJobResponse;
 import com.j30ngwoo.scheduler.dto.ScheduleOptimizeRequest;
+import com.j30ngwoo.scheduler.service.OptimizationJobService;
 import com.j30ngwoo.scheduler.service.ScheduleOptimizerService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -14,12 +22,58 @@ import java.util.List;
 public class OptimizationController {
 
     private final ScheduleOptimizerService optimizerService;
+    private final OptimizationJobService jobService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ApiResponse<List<ScheduleOptimizerService.Assignment>> optimizeSchedule(
             @PathVariable String code,
             @RequestBody ScheduleOptimizeRequest req
     ) {
-        return ApiResponse.success(optimizerService.optimize(code, req.isLectureDayWorkPriority(), req.applyTravelTimeBuffer()));
+        return ApiResponse.success(optimizerService.optimize(code, req));
+    }
+
+    // compact 응답 (Accept: application/vnd.scheduler.roster+json)
+    // 배정 목록을 만들지 않고 계산 결과를 그대로 응답 스트림에 씀
+    @PostMapping(produces = CompactRosterWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> optimizeScheduleCompact(
+            @PathVariable String code,
+            @RequestBody ScheduleOptimizeRequest req
+    ) {
+        ScheduleOptimizerService.OptimizationResult result = optimizerService.optimizeResult(code, req);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+                gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                CompactRosterWriter.write(gen, result);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CompactRosterWriter.MEDIA_TYPE))
+                .body(body);
+    }
+
+    // compact 응답 (?format=compact, Accept 헤더를 바꾸기 어려운 클라이언트용)
+    @PostMapping(params = "format=compact")
+    public ResponseEntity<StreamingResponseBody> optimizeScheduleCompactByParam(
+            @PathVariable String code,
+            @RequestBody ScheduleOptimizeRequest req
+    ) {
+        return optimizeScheduleCompact(code, req);
+    }
+
+    @PostMapping("/explain")
+    public ApiResponse<OptimizationExplainResponse> explainSchedule(
+            @PathVariable String code,
+            @RequestBody ScheduleOptimizeRequest req
+    ) {
+        return ApiResponse.success(optimizerService.explain(code, req));
+    }
+
+    @PostMapping("/jobs")
+    public ApiResponse<OptimizationJobResponse> submitJob(
+            @PathVariable String code,
+            @RequestBody ScheduleOptimizeRequest req
+    ) {
+        return ApiResponse.success(jobService.submit(code, req));
     }
 }
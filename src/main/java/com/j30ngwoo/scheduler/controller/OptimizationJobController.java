@@ -0,0 +1,31 @@
+package com.j30ngwoo.scheduler.controller;
+
+import com.j30ngwoo.scheduler.common.response.ApiResponse;
+import com.j30ngwoo.scheduler.dto.OptimizationJobResponse;
+import com.j30ngwoo.scheduler.service.OptimizationJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/optimization-jobs")
+@RequiredArgsConstructor
+public class OptimizationJobController {
+
+    private final OptimizationJobService jobService;
+
+    @GetMapping("/{jobId}")
+    public CompletableFuture<ApiResponse<OptimizationJobResponse>> getJob(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") long waitMs
+    ) {
+        return jobService.getJob(jobId, Duration.ofMillis(waitMs)).thenApply(ApiResponse::success);
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ApiResponse<OptimizationJobResponse> cancel(@PathVariable String jobId) {
+        return ApiResponse.success(jobService.cancel(jobId));
+    }
+}
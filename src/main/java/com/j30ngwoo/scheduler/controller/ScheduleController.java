@@ -3,9 +3,11 @@ package com.j30ngwoo.scheduler.controller;
 import com.j30ngwoo.scheduler.common.response.ApiResponse;
 import com.j30ngwoo.scheduler.config.resolver.CurrentUser;
 import com.j30ngwoo.scheduler.domain.User;
+import com.j30ngwoo.scheduler.dto.PageResponse;
 import com.j30ngwoo.scheduler.dto.ScheduleCreateRequest;
 import com.j30ngwoo.scheduler.dto.ScheduleOptionUpdateRequest;
 import com.j30ngwoo.scheduler.dto.ScheduleResponse;
+import com.j30ngwoo.scheduler.dto.ScheduleSummaryResponse;
 import com.j30ngwoo.scheduler.service.ScheduleService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,13 +32,23 @@ public class ScheduleController {
         return ApiResponse.success(scheduleService.getSchedulesByUser(currentUser));
     }
 
+    // 대시보드용 요약 목록 (참가자 일정 없이 참가자 수 / 마지막 제출 시각만)
+    @GetMapping("/summary")
+    public ApiResponse<PageResponse<ScheduleSummaryResponse>> getMyScheduleSummaries(
+            @CurrentUser User currentUser,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(scheduleService.getScheduleSummaries(currentUser, page, size));
+    }
+
     @GetMapping("/{code}")
     public ApiResponse<ScheduleResponse> getScheduleByCode(@PathVariable String code) {
         return ApiResponse.success(scheduleService.getScheduleByCode(code));
     }
 
     @PutMapping("/{code}/options")
-    public ApiResponse<Void> updateOptions(@PathVariable String code, @RequestBody ScheduleOptionUpdateRequest request) {
+    public ApiResponse<Void> updateOptions(@PathVariable String code, @RequestBody @Valid ScheduleOptionUpdateRequest request) {
         scheduleService.updateOptions(code, request);
         return ApiResponse.success(null);
     }
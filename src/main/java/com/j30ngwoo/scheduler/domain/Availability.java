@@ -1,14 +1,18 @@
 package com.j30ngwoo.scheduler.domain;
 
+import com.j30ngwoo.scheduler.service.availability.AvailabilityLegacyListener;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Table(uniqueConstraints = @UniqueConstraint(columnNames = {"schedule_id", "participant_name"}))
+@EntityListeners(AvailabilityLegacyListener.class)
 public class Availability {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -17,9 +21,28 @@ public class Availability {
     @Column(nullable = false)
     private String participantName;
 
-    @Column(nullable = false)
-    private String availabilityBits; // 0/1 문자열, 30분 단위
+    // 기존 0/1 문자열 컬럼(availability_bits)은 AvailabilityStorageMigration 이 이 컬럼으로 옮김
+    @Convert(converter = AvailabilityBitsConverter.class)
+    @Column(name = "availability_packed", length = 128)
+    private AvailabilityBits availabilityBits; // 입력 칸(schedule.unitMinutes()) 단위
+
+    // 아직 이전되지 않은 행이면 옛 컬럼 값 (AvailabilityLegacyListener 가 채움, 저장하지 않음)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private AvailabilityBits legacyAvailabilityBits;
 
     @ManyToOne(optional = false)
     private Schedule schedule;
+
+    private LocalDateTime updatedAt; // 컬럼 추가 전 행은 null
+
+    public AvailabilityBits getAvailabilityBits() {
+        return availabilityBits != null ? availabilityBits : legacyAvailabilityBits;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        updatedAt = LocalDateTime.now();
+    }
 }
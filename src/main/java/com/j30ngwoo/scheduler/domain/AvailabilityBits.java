@@ -0,0 +1,99 @@
+package com.j30ngwoo.scheduler.domain;
+
+import java.util.Arrays;
+
+// 가용 시간 비트열 (입력 칸 하나 = 1비트, 1 = 가능). 불변
+// DB 에는 AvailabilityBitsConverter 가 [길이 4바이트][앞 칸이 상위 비트가 되도록 8칸씩 묶은 바이트] 로 저장
+public final class AvailabilityBits {
+
+    private final long[] words;
+    private final int length;
+
+    private AvailabilityBits(long[] words, int length) {
+        this.words = words;
+        this.length = length;
+    }
+
+    // length 이후의 비트는 버림
+    public static AvailabilityBits of(long[] words, int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("negative length: " + length);
+        }
+        long[] copy = Arrays.copyOf(words, (length + 63) >>> 6);
+        if ((length & 63) != 0) {
+            copy[copy.length - 1] &= (1L << length) - 1;
+        }
+        return new AvailabilityBits(copy, length);
+    }
+
+    // '0' / '1' 문자열
+    public static AvailabilityBits parse(String bits) {
+        int length = bits.length();
+        long[] words = new long[(length + 63) >>> 6];
+        for (int i = 0; i < length; i++) {
+            char c = bits.charAt(i);
+            if (c == '1') {
+                words[i >>> 6] |= 1L << i;
+            } else if (c != '0') {
+                throw new IllegalArgumentException("invalid char at " + i);
+            }
+        }
+        return new AvailabilityBits(words, length);
+    }
+
+    // 8칸씩 묶은 바이트 (앞 칸이 상위 비트), 남는 비트는 무시
+    public static AvailabilityBits fromPacked(byte[] packed, int offset, int length) {
+        if (length < 0 || packed.length - offset < (length + 7) / 8) {
+            throw new IllegalArgumentException("packed bytes too short for " + length + " bits");
+        }
+        long[] words = new long[(length + 63) >>> 6];
+        for (int i = 0; i < length; i++) {
+            if ((packed[offset + (i >>> 3)] & (0x80 >>> (i & 7))) != 0) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return new AvailabilityBits(words, length);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public boolean get(int i) {
+        return (words[i >>> 6] & (1L << i)) != 0;
+    }
+
+    // 비트 i = words[i / 64] 의 (i % 64) 번째 비트 (복사본)
+    public long[] toLongArray() {
+        return words.clone();
+    }
+
+    public byte[] toPacked() {
+        byte[] packed = new byte[(length + 7) / 8];
+        for (int i = 0; i < length; i++) {
+            if (get(i)) packed[i >>> 3] |= (byte) (0x80 >>> (i & 7));
+        }
+        return packed;
+    }
+
+    public String toBitString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) chars[i] = get(i) ? '1' : '0';
+        return new String(chars);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof AvailabilityBits other && length == other.length && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * length + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return toBitString();
+    }
+}
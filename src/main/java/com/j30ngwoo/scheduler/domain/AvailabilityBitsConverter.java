@@ -0,0 +1,35 @@
+package com.j30ngwoo.scheduler.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+
+// AvailabilityBits <-> [길이(int, big-endian)][비트 묶음] 바이트 배열
+// 0/1 문자열 대비 약 1/8 크기 (7일 x 24시간 x 15분 = 672칸 -> 88바이트)
+@Converter
+public class AvailabilityBitsConverter implements AttributeConverter<AvailabilityBits, byte[]> {
+
+    private static final int HEADER_BYTES = Integer.BYTES;
+
+    @Override
+    public byte[] convertToDatabaseColumn(AvailabilityBits bits) {
+        if (bits == null) {
+            return null;
+        }
+        byte[] packed = bits.toPacked();
+        return ByteBuffer.allocate(HEADER_BYTES + packed.length)
+                .putInt(bits.length())
+                .put(packed)
+                .array();
+    }
+
+    @Override
+    public AvailabilityBits convertToEntityAttribute(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        int length = ByteBuffer.wrap(data).getInt();
+        return AvailabilityBits.fromPacked(data, HEADER_BYTES, length);
+    }
+}
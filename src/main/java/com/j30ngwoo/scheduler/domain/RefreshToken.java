@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt"))
 public class RefreshToken {
     @Id
     private Long userId;
@@ -20,7 +21,7 @@ public class RefreshToken {
     private User user;
 
     @Column(nullable = false, unique = true)
-    private String token;
+    private String token; // 토큰 원문이 아닌 SHA-256 (hex). 해시 저장 이전 행은 원문 (조회 시 해시로 교체)
 
     @Column(nullable = false)
     private LocalDateTime expiresAt;
@@ -13,6 +13,9 @@ import java.util.UUID;
 @Builder
 public class Schedule {
 
+    public static final int DEFAULT_DAYS = 5;
+    public static final int DEFAULT_SLOT_MINUTES = 60;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -38,9 +41,32 @@ public class Schedule {
     @Column(nullable = false)
     private Integer participantsPerSlot;
 
+    private Integer days; // 요일 수 (월요일부터, 1~7)
+
+    private Integer slotMinutes; // 배정 단위 15 / 30 / 60분
+
     @OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Availability> availabilities;
 
+    // 기존 스케줄(컬럼 추가 전)은 null -> 월~금, 1시간 단위
+    public int daysOrDefault() {
+        return days != null ? days : DEFAULT_DAYS;
+    }
+
+    public int slotMinutesOrDefault() {
+        return slotMinutes != null ? slotMinutes : DEFAULT_SLOT_MINUTES;
+    }
+
+    // 가용 시간 입력 한 칸의 길이 (1시간 slot 은 기존처럼 30분 단위 입력)
+    public int unitMinutes() {
+        return Math.min(30, slotMinutesOrDefault());
+    }
+
+    // 가용 시간 문자열 길이 (요일 수 x 하루 입력 칸 수)
+    public int availabilityLength() {
+        return daysOrDefault() * (endHour - startHour) * 60 / unitMinutes();
+    }
+
     @PrePersist
     public void generateCode() {
         if (code == null) {
@@ -0,0 +1,30 @@
+package com.j30ngwoo.scheduler.dto;
+
+import com.j30ngwoo.scheduler.domain.Schedule;
+import com.j30ngwoo.scheduler.service.availability.AvailabilityHeatmap;
+
+import java.util.List;
+
+// counts[day * unitsPerDay + i]: day 요일 i 번째 입력 칸(시작 = startHour + i * unitMinutes 분)에 가능한 인원 수
+public record AvailabilityHeatmapResponse(
+        int days,
+        int unitsPerDay,
+        int unitMinutes,
+        int startHour,
+        int participantCount,
+        int[] counts,
+        List<String> available // slot 을 지정한 경우에만, 그 칸에 가능한 참가자
+) {
+    public static AvailabilityHeatmapResponse of(Schedule schedule, AvailabilityHeatmap.View view) {
+        int days = schedule.daysOrDefault();
+        return new AvailabilityHeatmapResponse(
+                days,
+                days > 0 ? schedule.availabilityLength() / days : 0,
+                schedule.unitMinutes(),
+                schedule.getStartHour(),
+                view.participantCount(),
+                view.counts(),
+                view.available()
+        );
+    }
+}
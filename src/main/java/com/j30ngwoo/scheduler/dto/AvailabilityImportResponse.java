@@ -0,0 +1,6 @@
+package com.j30ngwoo.scheduler.dto;
+
+public record AvailabilityImportResponse(
+        int inserted,
+        int updated
+) {}
@@ -5,13 +5,13 @@ import com.j30ngwoo.scheduler.domain.Availability;
 public record AvailabilityResponse(
         Long id,
         String participantName,
-        String availabilityBits
+        String availabilityBits // 0/1 문자열
 ) {
     public static AvailabilityResponse from(Availability availability) {
         return new AvailabilityResponse(
                 availability.getId(),
                 availability.getParticipantName(),
-                availability.getAvailabilityBits()
+                availability.getAvailabilityBits().toBitString()
         );
     }
 }
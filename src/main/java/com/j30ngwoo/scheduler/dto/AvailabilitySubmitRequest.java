@@ -1,10 +1,16 @@
 package com.j30ngwoo.scheduler.dto;
 
+import com.j30ngwoo.scheduler.service.availability.AvailabilityEncoding;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.NotNull;
 
+// availabilityBinary 의 형식/길이는 encoding 에 따라 서비스에서 검사 (RANGES 는 빈 문자열 허용)
 public record AvailabilitySubmitRequest(
         @NotBlank String participantName,
-        @NotBlank @Pattern(regexp = "^[01]+$") String availabilityBinary
-) {}
-
+        @NotNull String availabilityBinary,
+        AvailabilityEncoding encoding // null 이면 BINARY
+) {
+    public AvailabilityEncoding encodingOrDefault() {
+        return encoding != null ? encoding : AvailabilityEncoding.BINARY;
+    }
+}
@@ -0,0 +1,16 @@
+package com.j30ngwoo.scheduler.dto;
+
+import com.j30ngwoo.scheduler.service.optimizer.OptimizationMode;
+
+import java.util.List;
+
+public record BatchOptimizeRequest(
+        List<String> codes,   // null 또는 비어 있으면 내 스케줄 전체
+        boolean isLectureDayWorkPriority,
+        boolean applyTravelTimeBuffer,
+        OptimizationMode mode
+) {
+    public ScheduleOptimizeRequest toOptimizeRequest() {
+        return new ScheduleOptimizeRequest(isLectureDayWorkPriority, applyTravelTimeBuffer, mode, false);
+    }
+}
@@ -0,0 +1,22 @@
+package com.j30ngwoo.scheduler.dto;
+
+import com.j30ngwoo.scheduler.common.exception.ErrorCode;
+import com.j30ngwoo.scheduler.service.ScheduleOptimizerService;
+
+import java.util.List;
+
+// 스케줄별 결과. 실패한 스케줄은 assignments 가 null 이고 errorCode / message 가 채워짐
+public record BatchOptimizeResult(
+        String code,
+        List<ScheduleOptimizerService.Assignment> assignments,
+        String errorCode,
+        String message
+) {
+    public static BatchOptimizeResult success(String code, List<ScheduleOptimizerService.Assignment> assignments) {
+        return new BatchOptimizeResult(code, assignments, null, null);
+    }
+
+    public static BatchOptimizeResult failure(String code, ErrorCode errorCode) {
+        return new BatchOptimizeResult(code, null, errorCode.name(), errorCode.getMessage());
+    }
+}
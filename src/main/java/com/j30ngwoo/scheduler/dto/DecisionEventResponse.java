@@ -0,0 +1,24 @@
+package com.j30ngwoo.scheduler.dto;
+
+import com.j30ngwoo.scheduler.service.optimizer.DecisionTrace;
+import com.j30ngwoo.scheduler.service.optimizer.SlotGrid;
+
+// slot 이 없는 이벤트는 day / hourIndex 가 null
+public record DecisionEventResponse(
+        DecisionTrace.Type type,
+        Integer day,
+        Integer hourIndex,
+        String participant,
+        int value
+) {
+    public static DecisionEventResponse of(SlotGrid grid, DecisionTrace.Event event) {
+        int slot = event.slot();
+        return new DecisionEventResponse(
+                event.type(),
+                slot >= 0 ? grid.dayOf(slot) : null,
+                slot >= 0 ? grid.indexInDay(slot) : null,
+                event.participant(),
+                event.value()
+        );
+    }
+}
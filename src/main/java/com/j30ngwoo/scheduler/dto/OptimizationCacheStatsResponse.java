@@ -0,0 +1,21 @@
+package com.j30ngwoo.scheduler.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+public record OptimizationCacheStatsResponse(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        double hitRate,
+        long estimatedSize
+) {
+    public static OptimizationCacheStatsResponse from(CacheStats stats, long estimatedSize) {
+        return new OptimizationCacheStatsResponse(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.hitRate(),
+                estimatedSize
+        );
+    }
+}
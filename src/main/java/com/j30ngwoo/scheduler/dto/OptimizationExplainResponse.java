@@ -0,0 +1,11 @@
+package com.j30ngwoo.scheduler.dto;
+
+import com.j30ngwoo.scheduler.service.ScheduleOptimizerService;
+
+import java.util.List;
+
+public record OptimizationExplainResponse(
+        List<ScheduleOptimizerService.Assignment> assignments,
+        List<DecisionEventResponse> trace,
+        boolean truncated  // 이벤트 수 제한으로 뒷부분이 잘렸는지
+) {}
@@ -0,0 +1,29 @@
+package com.j30ngwoo.scheduler.dto;
+
+import com.j30ngwoo.scheduler.service.OptimizationJob;
+import com.j30ngwoo.scheduler.service.ScheduleOptimizerService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record OptimizationJobResponse(
+        String jobId,
+        String scheduleCode,
+        OptimizationJob.Status status,
+        String errorCode,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt,
+        List<ScheduleOptimizerService.Assignment> result
+) {
+    public static OptimizationJobResponse from(OptimizationJob job) {
+        return new OptimizationJobResponse(
+                job.getId(),
+                job.getScheduleCode(),
+                job.getStatus(),
+                job.getError() != null ? job.getError().name() : null,
+                job.getCreatedAt(),
+                job.getFinishedAt(),
+                job.getResult()
+        );
+    }
+}
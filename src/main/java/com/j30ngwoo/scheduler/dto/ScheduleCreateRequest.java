@@ -1,5 +1,6 @@
 package com.j30ngwoo.scheduler.dto;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -10,5 +11,7 @@ public record ScheduleCreateRequest(
         @NotNull Integer endHour,
         Integer minHoursPerParticipant,
         @Min(1) Integer maxHoursPerParticipant,
-        @NotNull Integer participantsPerSlot
+        @NotNull @Max(100) Integer participantsPerSlot,
+        @Min(1) @Max(7) Integer days,      // null 이면 5 (월~금)
+        Integer slotMinutes                // 15 / 30 / 60, null 이면 60
 ) {}
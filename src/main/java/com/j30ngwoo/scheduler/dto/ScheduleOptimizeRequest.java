@@ -1,6 +1,14 @@
 package com.j30ngwoo.scheduler.dto;
 
+import com.j30ngwoo.scheduler.service.optimizer.OptimizationMode;
+
 public record ScheduleOptimizeRequest(
         boolean isLectureDayWorkPriority,
-        boolean applyTravelTimeBuffer
-) {}
\ No newline at end of file
+        boolean applyTravelTimeBuffer,
+        OptimizationMode mode, // null 이면 GREEDY
+        boolean incremental    // 직전 결과에서 변경된 참가자만 재배정 (GREEDY)
+) {
+    public OptimizationMode modeOrDefault() {
+        return mode != null ? mode : OptimizationMode.GREEDY;
+    }
+}
@@ -1,7 +1,9 @@
 package com.j30ngwoo.scheduler.dto;
 
+import jakarta.validation.constraints.Max;
+
 public record ScheduleOptionUpdateRequest(
         Integer minHoursPerParticipant,
         Integer maxHoursPerParticipant,
-        Integer participantsPerSlot
+        @Max(100) Integer participantsPerSlot
 ) {}
@@ -13,6 +13,8 @@ public record ScheduleResponse(
         Integer minHoursPerParticipant,
         Integer maxHoursPerParticipant,
         Integer participantsPerSlot,
+        int days,
+        int slotMinutes,
         List<AvailabilityResponse> availabilities
 ) {
     public static ScheduleResponse from(Schedule schedule) {
@@ -26,6 +28,8 @@ public record ScheduleResponse(
                 schedule.getMinHoursPerParticipant(),
                 schedule.getMaxHoursPerParticipant(),
                 schedule.getParticipantsPerSlot(),
+                schedule.daysOrDefault(),
+                schedule.slotMinutesOrDefault(),
                 schedule.getAvailabilities().stream()
                         .map(AvailabilityResponse::from)
                         .toList()
@@ -0,0 +1,24 @@
+package com.j30ngwoo.scheduler.dto;
+
+import com.j30ngwoo.scheduler.domain.Schedule;
+
+import java.time.LocalDateTime;
+
+// 목록용 요약 (참가자 일정은 불러오지 않음). ScheduleRepository.findSummariesByOwner 에서 바로 생성
+public record ScheduleSummaryResponse(
+        Long id,
+        String code,
+        String title,
+        Integer startHour,
+        Integer endHour,
+        Integer participantsPerSlot,
+        Integer days,
+        Integer slotMinutes,
+        long participantCount,
+        LocalDateTime lastUpdatedAt // 가장 최근 일정 제출 시각 (없으면 null)
+) {
+    public ScheduleSummaryResponse {
+        if (days == null) days = Schedule.DEFAULT_DAYS;
+        if (slotMinutes == null) slotMinutes = Schedule.DEFAULT_SLOT_MINUTES;
+    }
+}
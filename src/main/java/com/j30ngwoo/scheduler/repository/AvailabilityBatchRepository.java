@@ -0,0 +1,138 @@
+package com.j30ngwoo.scheduler.repository;
+
+import com.j30ngwoo.scheduler.domain.AvailabilityBits;
+import com.j30ngwoo.scheduler.domain.AvailabilityBitsConverter;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 참가자 일정 저장용 JDBC (단건 upsert, 일괄 저장 batch upsert)
+// id 는 IDENTITY 그대로 사용: 생성된 id 가 필요 없는 JDBC batch 는 IDENTITY 여도 묶여서 전송됨
+// (Hibernate 가 IDENTITY insert 를 묶지 못하는 건 persist 직후 id 를 알아야 하기 때문)
+// MySQL 은 rewriteBatchedStatements=true 일 때 batch 를 multi-row insert 하나로 보냄
+@Repository
+@RequiredArgsConstructor
+@Timed(value = "scheduler.repository.jdbc", histogram = true)
+public class AvailabilityBatchRepository {
+
+    private static final int UPSERT_ATTEMPTS = 3;
+
+    // values(col) 참조는 MySQL 8.0.20 부터 deprecated 라 row alias 사용 (8.0.19+)
+    private static final String MYSQL_UPSERT =
+            "insert into availability (schedule_id, participant_name, availability_packed, updated_at)"
+                    + " values (:scheduleId, :name, :bits, :updatedAt) as new"
+                    + " on duplicate key update availability_packed = new.availability_packed, updated_at = new.updated_at";
+
+    private static final String H2_UPSERT =
+            "merge into availability (schedule_id, participant_name, availability_packed, updated_at)"
+                    + " key (schedule_id, participant_name)"
+                    + " values (:scheduleId, :name, :bits, :updatedAt)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AvailabilityBitsConverter converter = new AvailabilityBitsConverter();
+
+    private volatile String upsertSql;
+
+    // (schedule_id, participant_name) 기준 insert 또는 update 를 문장 하나로 실행 (엔티티 조회 / dirty checking 없음)
+    // MySQL ON DUPLICATE KEY UPDATE 는 원자적이지만 H2 MERGE 는 동시에 같은 key 를 insert 하면 unique 위반이 날 수 있고,
+    // 부하가 몰리면 lock 대기 시간 초과도 날 수 있어서 몇 번 다시 시도 (다시 실행하면 update 로 처리됨)
+    public void upsert(Long scheduleId, String participantName, AvailabilityBits bits, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("scheduleId", scheduleId)
+                .addValue("name", participantName)
+                .addValue("bits", converter.convertToDatabaseColumn(bits))
+                .addValue("updatedAt", Timestamp.valueOf(now));
+        String sql = upsertSql();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.update(sql, params);
+                return;
+            } catch (DuplicateKeyException | PessimisticLockingFailureException e) {
+                if (attempt == UPSERT_ATTEMPTS) throw e;
+            }
+        }
+    }
+
+    // upsert 후 응답용 id 조회. upsert 문장은 insert / update 어느 쪽이었는지와 id 를 돌려주지 않아서 따로 조회
+    // (unique key 로 한 행만 읽는 조회라 쓰기 경합과 무관, 제출 경로의 두 번째 왕복)
+    public Long findId(Long scheduleId, String participantName) {
+        return jdbcTemplate.queryForObject(
+                "select id from availability where schedule_id = :scheduleId and participant_name = :name",
+                new MapSqlParameterSource()
+                        .addValue("scheduleId", scheduleId)
+                        .addValue("name", participantName),
+                Long.class
+        );
+    }
+
+    // 참가자 이름 -> 기존 행 id (쿼리 한 번, 일괄 저장 결과의 등록 / 수정 건수 계산용)
+    public Map<String, Long> findIdsByParticipantName(Long scheduleId, Collection<String> participantNames) {
+        Map<String, Long> ids = new HashMap<>();
+        if (participantNames.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.query(
+                "select id, participant_name from availability where schedule_id = :scheduleId and participant_name in (:names)",
+                new MapSqlParameterSource()
+                        .addValue("scheduleId", scheduleId)
+                        .addValue("names", participantNames),
+                rs -> {
+                    ids.put(rs.getString("participant_name"), rs.getLong("id"));
+                }
+        );
+        return ids;
+    }
+
+    // 일괄 저장: upsert 문장을 batch 로 실행 (기존 행 조회 후 insert 하면 그 사이 다른 요청이 같은 이름을 저장했을 때 unique 위반)
+    // transaction 안에서 실행되므로 lock 대기 시간 초과는 다시 시도하지 않음 (MySQL 은 transaction 전체가 rollback 됨)
+    public void batchUpsert(Long scheduleId, Map<String, AvailabilityBits> rows, LocalDateTime now) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<MapSqlParameterSource> params = new ArrayList<>(rows.size());
+        for (Map.Entry<String, AvailabilityBits> row : rows.entrySet()) {
+            params.add(new MapSqlParameterSource()
+                    .addValue("scheduleId", scheduleId)
+                    .addValue("name", row.getKey())
+                    .addValue("bits", converter.convertToDatabaseColumn(row.getValue()))
+                    .addValue("updatedAt", Timestamp.valueOf(now)));
+        }
+        MapSqlParameterSource[] batch = params.toArray(MapSqlParameterSource[]::new);
+        String sql = upsertSql();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(sql, batch);
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == UPSERT_ATTEMPTS) throw e;
+            }
+        }
+    }
+
+    // H2 (로컬 / 테스트) 만 MERGE, 그 외는 MySQL 문법
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName()
+            );
+            sql = product != null && product.toLowerCase(Locale.ROOT).contains("h2") ? H2_UPSERT : MYSQL_UPSERT;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+}
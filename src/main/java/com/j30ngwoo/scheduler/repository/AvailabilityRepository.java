@@ -4,10 +4,12 @@ import com.j30ngwoo.scheduler.domain.Availability;
 import com.j30ngwoo.scheduler.domain.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AvailabilityRepository extends JpaRepository<Availability, Long> {
     Optional<Availability> findByScheduleAndParticipantName(Schedule schedule, String participantName);
     List<Availability> findAllBySchedule(Schedule schedule);
+    List<Availability> findAllByScheduleIn(Collection<Schedule> schedules);
 }
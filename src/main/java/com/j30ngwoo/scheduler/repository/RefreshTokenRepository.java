@@ -1,11 +1,32 @@
 package com.j30ngwoo.scheduler.repository;
 
 import com.j30ngwoo.scheduler.domain.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByToken(String token);
-    void deleteByToken(String token);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.token = :token")
+    int deleteByToken(@Param("token") String token);
+
+    // 만료된 토큰 id (오래된 순, pageable 크기만큼)
+    @Query("select r.userId from RefreshToken r where r.expiresAt < :now order by r.expiresAt")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조회 후 다시 로그인해서 토큰이 갱신된 행은 지우지 않도록 만료 조건을 함께 검사
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.userId in :ids and r.expiresAt < :now")
+    int deleteExpiredByIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
 }
@@ -2,12 +2,37 @@ package com.j30ngwoo.scheduler.repository;
 
 import com.j30ngwoo.scheduler.domain.Schedule;
 import com.j30ngwoo.scheduler.domain.User;
+import com.j30ngwoo.scheduler.dto.ScheduleSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     Optional<Schedule> findByCode(String code);
     List<Schedule> findAllByOwner(User owner);
+    // 기존 전체 목록: 참가자 일정을 스케줄마다 따로 불러오지 않도록 한 번에 조회
+    @EntityGraph(attributePaths = "availabilities")
+    List<Schedule> findWithAvailabilitiesByOwner(User owner);
+    List<Schedule> findAllByCodeIn(Collection<String> codes);
+
+    // 스케줄 정보 + 참가자 수 / 마지막 제출 시각을 쿼리 한 번으로 (최근 생성 순)
+    @Query(value = """
+            select new com.j30ngwoo.scheduler.dto.ScheduleSummaryResponse(
+                s.id, s.code, s.title, s.startHour, s.endHour, s.participantsPerSlot, s.days, s.slotMinutes,
+                count(a), max(a.updatedAt)
+            )
+            from Schedule s left join s.availabilities a
+            where s.owner = :owner
+            group by s.id, s.code, s.title, s.startHour, s.endHour, s.participantsPerSlot, s.days, s.slotMinutes
+            order by s.id desc
+            """,
+            countQuery = "select count(s) from Schedule s where s.owner = :owner")
+    Page<ScheduleSummaryResponse> findSummariesByOwner(@Param("owner") User owner, Pageable pageable);
 }
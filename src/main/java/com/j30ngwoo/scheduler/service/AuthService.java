@@ -2,9 +2,9 @@ package com.j30ngwoo.scheduler.service;
 
 import com.j30ngwoo.scheduler.common.exception.AppException;
 import com.j30ngwoo.scheduler.common.exception.ErrorCode;
-import com.j30ngwoo.scheduler.domain.RefreshToken;
-import com.j30ngwoo.scheduler.repository.RefreshTokenRepository;
-import com.j30ngwoo.scheduler.repository.UserRepository;
+import com.j30ngwoo.scheduler.service.token.RefreshTokenStore;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.UUID;
@@ -22,8 +23,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${jwt.secret}")
     private String secretKeyRaw;
@@ -32,10 +32,14 @@ public class AuthService {
     private long accessTokenExpiration;
 
     private SecretKey secretKey;
+    private JwtParser parser; // 불변 객체라 요청마다 만들지 않고 공유
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(secretKeyRaw.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     public String createAccessToken(Long userId) {
@@ -48,42 +52,34 @@ public class AuthService {
                 .compact();
     }
 
-    public Long parseSubject(String token) {
-        return Long.valueOf(Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject());
+    // 서명 / 만료 검증 후 사용자 id 와 만료 시각
+    public VerifiedToken verifyAccessToken(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return new VerifiedToken(Long.valueOf(claims.getSubject()), claims.getExpiration().toInstant());
     }
 
     public String createRefreshToken(Long userId) {
         String token = UUID.randomUUID().toString();
         LocalDateTime expiry = LocalDateTime.now().plusDays(30);
 
-        RefreshToken refreshToken = refreshTokenRepository.findById(userId)
-                .orElse(RefreshToken.builder()
-                        .user(userRepository.getReferenceById(userId))
-                        .build());
-
-        refreshToken.setToken(token);
-        refreshToken.setExpiresAt(expiry);
-
-        return refreshTokenRepository.save(refreshToken).getToken();
+        refreshTokenStore.save(userId, token, expiry);
+        return token;
     }
 
     public String refreshAccessToken(String refreshToken) {
-        RefreshToken token = refreshTokenRepository.findByToken(refreshToken)
+        RefreshTokenStore.StoredRefreshToken token = refreshTokenStore.find(refreshToken)
                 .orElseThrow(() -> new AppException(ErrorCode.REFRESH_TOKEN_INVALID));
 
-        if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+        if (token.isExpired(LocalDateTime.now())) {
             throw new AppException(ErrorCode.REFRESH_TOKEN_INVALID);
         }
 
-        return createAccessToken(token.getUser().getId());
+        return createAccessToken(token.userId());
     }
 
     public void deleteRefreshToken(String token) {
-        refreshTokenRepository.deleteByToken(token);
+        refreshTokenStore.delete(token);
     }
+
+    public record VerifiedToken(Long userId, Instant expiresAt) {}
 }
@@ -0,0 +1,66 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.j30ngwoo.scheduler.domain.User;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// 검증을 마친 access token -> 사용자 캐시. 같은 토큰은 서명 검증 / 사용자 조회 없이 통과
+// 항목은 토큰 만료 시각과 max-ttl 중 빠른 쪽에 만료
+// 보관하는 User 는 영속성 컨텍스트와 무관한 복사본 (읽기 전용)
+@Component
+public class AuthenticatedUserCache {
+
+    @Value("${auth.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${auth.cache.max-ttl:5m}")
+    private Duration maxTtl;
+
+    private Cache<String, Entry> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String token, Entry entry, long currentTime) {
+                        Duration untilExpiry = Duration.between(Instant.now(), entry.expiresAt());
+                        return Math.max(0, Math.min(untilExpiry.toNanos(), maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public User get(String accessToken) {
+        Entry entry = cache.getIfPresent(accessToken);
+        return entry != null ? entry.user() : null;
+    }
+
+    public void put(String accessToken, User user, Instant expiresAt) {
+        cache.put(accessToken, new Entry(User.builder()
+                .id(user.getId())
+                .kakaoId(user.getKakaoId())
+                .name(user.getName())
+                .build(), expiresAt));
+    }
+
+    private record Entry(User user, Instant expiresAt) {}
+}
@@ -0,0 +1,107 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.j30ngwoo.scheduler.domain.AvailabilityBits;
+import com.j30ngwoo.scheduler.service.availability.AvailabilityHeatmap;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 스케줄별 가능 인원 집계 보관 (LRU). 처음 조회할 때만 DB 에서 만들고 이후에는 제출/삭제 delta 로 갱신
+// 집계를 만드는 동안 변경이 있으면 (버전이 바뀌면) 만든 집계는 저장하지 않음
+// DB 쓰기는 lock 없이 실행하고 commit 후 delta 반영. 같은 참가자의 쓰기가 겹치면 순서를 알 수 없으므로 집계를 버림
+@Component
+public class AvailabilityHeatmapStore {
+
+    private static final int MAX_SCHEDULES = 256;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private final Map<Long, AvailabilityHeatmap> heatmaps = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, AvailabilityHeatmap> eldest) {
+                    return size() > MAX_SCHEDULES;
+                }
+            });
+
+    // 참가자별 진행 중인 DB 쓰기 (begin ~ put / remove / cancel)
+    private final Map<WriteKey, WriteState> writes = new ConcurrentHashMap<>();
+
+    public AvailabilityHeatmap get(Long scheduleId) {
+        return heatmaps.get(scheduleId);
+    }
+
+    // DB 를 읽기 전에 호출
+    public long version(Long scheduleId) {
+        return versions.getOrDefault(scheduleId, 0L);
+    }
+
+    // version 이후 변경이 없었을 때만 저장. 이미 다른 요청이 저장한 집계가 있으면 그것을 반환
+    public AvailabilityHeatmap putIfUnchanged(Long scheduleId, long version, AvailabilityHeatmap heatmap) {
+        AvailabilityHeatmap stored = heatmaps.compute(scheduleId, (id, current) -> {
+            if (current != null) return current;
+            return version(id) == version ? heatmap : null;
+        });
+        return stored != null ? stored : heatmap;
+    }
+
+    // DB 쓰기 전에 호출. commit 후 put / remove, 저장하지 못했으면 cancel
+    public Write begin(Long scheduleId, String participantName) {
+        WriteKey key = new WriteKey(scheduleId, participantName);
+        long[] seq = new long[1];
+        boolean[] overlapped = new boolean[1];
+        writes.compute(key, (k, state) -> {
+            if (state == null) state = new WriteState();
+            state.active++;
+            seq[0] = ++state.started;
+            overlapped[0] = state.active > 1;
+            return state;
+        });
+        return new Write(key, seq[0], overlapped[0]);
+    }
+
+    public void put(Write write, AvailabilityBits bits) {
+        finish(write, heatmap -> heatmap.put(write.key().participantName(), bits));
+    }
+
+    public void remove(Write write) {
+        finish(write, heatmap -> heatmap.remove(write.key().participantName()));
+    }
+
+    public void cancel(Write write) {
+        writes.computeIfPresent(write.key(), (key, state) -> --state.active == 0 ? null : state);
+    }
+
+    public void remove(Long scheduleId) {
+        versions.merge(scheduleId, 1L, Long::sum);
+        heatmaps.remove(scheduleId);
+    }
+
+    // 같은 참가자의 쓰기가 겹쳤으면 DB 에 어느 쪽이 나중에 저장됐는지 알 수 없으므로 delta 대신 집계를 버림 (다음 조회에서 다시 만듦)
+    // 겹치지 않았으면 delta 반영. 다음 쓰기의 begin 이 끼어들지 않도록 같은 compute 안에서 처리
+    private void finish(Write write, Consumer<AvailabilityHeatmap> delta) {
+        writes.computeIfPresent(write.key(), (key, state) -> {
+            if (write.overlapped() || state.started != write.seq()) {
+                remove(key.scheduleId());
+            } else {
+                versions.merge(key.scheduleId(), 1L, Long::sum);
+                AvailabilityHeatmap heatmap = heatmaps.get(key.scheduleId());
+                if (heatmap != null) delta.accept(heatmap);
+            }
+            return --state.active == 0 ? null : state;
+        });
+    }
+
+    public record Write(WriteKey key, long seq, boolean overlapped) {}
+
+    public record WriteKey(Long scheduleId, String participantName) {}
+
+    private static final class WriteState {
+        int active;
+        long started;
+    }
+}
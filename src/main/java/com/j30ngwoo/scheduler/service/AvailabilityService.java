@@ -1,46 +1,152 @@
 package com.j30ngwoo.scheduler.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.j30ngwoo.scheduler.common.exception.AppException;
 import com.j30ngwoo.scheduler.common.exception.ErrorCode;
 import com.j30ngwoo.scheduler.domain.Availability;
+import com.j30ngwoo.scheduler.domain.AvailabilityBits;
 import com.j30ngwoo.scheduler.domain.Schedule;
+import com.j30ngwoo.scheduler.dto.AvailabilityHeatmapResponse;
+import com.j30ngwoo.scheduler.dto.AvailabilityImportResponse;
 import com.j30ngwoo.scheduler.dto.AvailabilityResponse;
 import com.j30ngwoo.scheduler.dto.AvailabilitySubmitRequest;
+import com.j30ngwoo.scheduler.repository.AvailabilityBatchRepository;
 import com.j30ngwoo.scheduler.repository.AvailabilityRepository;
-import com.j30ngwoo.scheduler.repository.ScheduleRepository;
+import com.j30ngwoo.scheduler.service.availability.AvailabilityCodec;
+import com.j30ngwoo.scheduler.service.availability.AvailabilityHeatmap;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "scheduler.availability", histogram = true)
 public class AvailabilityService {
 
-    private final ScheduleRepository scheduleRepository;
+    private final ScheduleCache scheduleCache;
     private final AvailabilityRepository availabilityRepository;
+    private final OptimizationResultCache optimizationResultCache;
+    private final AvailabilityHeatmapStore heatmapStore;
+    private final AvailabilityBatchRepository availabilityBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${availability.import.chunk-size:500}")
+    private int importChunkSize;
+
+    @Value("${availability.import.max-entries:5000}")
+    private int importMaxEntries;
 
     public AvailabilityResponse submitAvailability(String code, AvailabilitySubmitRequest request) {
-        Schedule schedule = scheduleRepository.findByCode(code)
+        Schedule schedule = scheduleCache.findByCode(code)
+                .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
+        AvailabilityBits bits = decodeAvailability(schedule, request);
+
+        // 조회 후 저장하면 같은 참가자 동시 제출 시 unique 제약 위반이 나므로 upsert 한 문장으로 저장
+        // 응답의 id 는 저장 후 unique key 로 한 번 더 조회 (쓰기는 한 문장, 조회 포함 왕복 두 번)
+        AvailabilityHeatmapStore.Write write = heatmapStore.begin(schedule.getId(), request.participantName());
+        try {
+            availabilityBatchRepository.upsert(schedule.getId(), request.participantName(), bits, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            heatmapStore.cancel(write);
+            throw e;
+        }
+        heatmapStore.put(write, bits);
+        Long id = availabilityBatchRepository.findId(schedule.getId(), request.participantName());
+
+        optimizationResultCache.invalidate(schedule.getId());
+        return new AvailabilityResponse(id, request.participantName(), bits.toBitString());
+    }
+
+    // 참가자 일정 일괄 등록 / 수정. 요청 본문(AvailabilitySubmitRequest 의 JSON 배열)을 끝까지 읽고 검사한 뒤 저장
+    // 잘못된 항목이 하나라도 있으면 아무것도 저장하지 않음. 같은 이름이 여러 번 나오면 마지막 값으로 저장
+    public AvailabilityImportResponse importAvailabilities(String code, InputStream body) {
+        Schedule schedule = scheduleCache.findByCode(code)
                 .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
 
-        Availability availability = availabilityRepository
-                .findByScheduleAndParticipantName(schedule, request.participantName())
-                .map(existing -> {
-                    existing.setAvailabilityBits(request.availabilityBinary());
-                    return existing;
-                })
-                .orElseGet(() -> Availability.builder()
-                        .schedule(schedule)
-                        .participantName(request.participantName())
-                        .availabilityBits(request.availabilityBinary())
-                        .build());
-
-        return AvailabilityResponse.from(availabilityRepository.save(availability));
+        // 본문을 읽는 동안은 transaction 을 열지 않음 (느린 업로드가 커넥션과 행 lock 을 잡고 있지 않도록)
+        // 읽어 둘 항목 수는 max-entries 로 제한
+        Map<String, AvailabilityBits> imported = readImport(schedule, body);
+
+        // 저장만 transaction 하나로: chunk 마다 기존 행 조회 한 번 + batch upsert. commit 후 delta 반영
+        Map<String, AvailabilityHeatmapStore.Write> writes = new HashMap<>();
+        imported.keySet().forEach(name -> writes.put(name, heatmapStore.begin(schedule.getId(), name)));
+        AvailabilityImportResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                int[] counts = new int[2]; // inserted, updated
+                Map<String, AvailabilityBits> chunk = new LinkedHashMap<>();
+                for (Map.Entry<String, AvailabilityBits> entry : imported.entrySet()) {
+                    chunk.put(entry.getKey(), entry.getValue());
+                    if (chunk.size() == importChunkSize) {
+                        writeChunk(schedule, chunk, counts);
+                        chunk.clear();
+                    }
+                }
+                writeChunk(schedule, chunk, counts);
+                return new AvailabilityImportResponse(counts[0], counts[1]);
+            });
+        } catch (RuntimeException e) {
+            writes.values().forEach(heatmapStore::cancel);
+            throw e;
+        }
+        imported.forEach((name, bits) -> heatmapStore.put(writes.get(name), bits));
+
+        optimizationResultCache.invalidate(schedule.getId());
+        return response;
+    }
+
+    private Map<String, AvailabilityBits> readImport(Schedule schedule, InputStream body) {
+        Map<String, AvailabilityBits> imported = new LinkedHashMap<>();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                AvailabilitySubmitRequest request = parser.readValueAs(AvailabilitySubmitRequest.class);
+                if (request.participantName() == null || request.participantName().isBlank()
+                        || request.availabilityBinary() == null) {
+                    throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
+                }
+                imported.put(request.participantName(), decodeAvailability(schedule, request));
+                if (imported.size() > importMaxEntries) {
+                    throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        } catch (IOException e) {
+            throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return imported;
+    }
+
+    // 등록 / 수정 건수는 저장 직전 조회 기준 (그 사이 다른 요청이 같은 이름을 저장해도 upsert 라 실패하지 않음)
+    private void writeChunk(Schedule schedule, Map<String, AvailabilityBits> chunk, int[] counts) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        int existing = availabilityBatchRepository.findIdsByParticipantName(schedule.getId(), chunk.keySet()).size();
+        availabilityBatchRepository.batchUpsert(schedule.getId(), chunk, LocalDateTime.now());
+        counts[0] += chunk.size() - existing;
+        counts[1] += existing;
     }
 
     public List<AvailabilityResponse> getAvailabilityList(String code) {
-        Schedule schedule = scheduleRepository.findByCode(code)
+        Schedule schedule = scheduleCache.findByCode(code)
                 .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
 
         return availabilityRepository.findAllBySchedule(schedule).stream()
@@ -49,16 +155,60 @@ public class AvailabilityService {
     }
 
     public void deleteAvailability(String code, Long availabilityId) {
-        Schedule schedule = scheduleRepository.findByCode(code)
+        Schedule schedule = scheduleCache.findByCode(code)
                 .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
 
         Availability availability = availabilityRepository.findById(availabilityId)
                 .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
 
-        if (!availability.getSchedule().equals(schedule)) {
+        if (!availability.getSchedule().getId().equals(schedule.getId())) {
+            throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        AvailabilityHeatmapStore.Write write = heatmapStore.begin(schedule.getId(), availability.getParticipantName());
+        try {
+            availabilityRepository.delete(availability);
+        } catch (RuntimeException e) {
+            heatmapStore.cancel(write);
+            throw e;
+        }
+        heatmapStore.remove(write);
+        optimizationResultCache.invalidate(schedule.getId());
+    }
+
+    // 입력 칸별 가능 인원 수 (slot 을 주면 그 칸에 가능한 참가자 목록도 함께)
+    public AvailabilityHeatmapResponse getHeatmap(String code, Integer slot) {
+        Schedule schedule = scheduleCache.findByCode(code)
+                .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
+
+        AvailabilityHeatmap heatmap = heatmapStore.get(schedule.getId());
+        if (heatmap == null) {
+            heatmap = loadHeatmap(schedule);
+        }
+        if (slot != null && (slot < 0 || slot >= heatmap.length())) {
             throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
         }
+        return AvailabilityHeatmapResponse.of(schedule, heatmap.view(slot != null ? slot : -1));
+    }
+
+    // 집계가 없을 때만 (기동 후 처음 / LRU 에서 밀려난 경우) 전체 조회
+    private AvailabilityHeatmap loadHeatmap(Schedule schedule) {
+        long version = heatmapStore.version(schedule.getId());
+        AvailabilityHeatmap heatmap = new AvailabilityHeatmap(schedule.availabilityLength());
+        for (Availability availability : availabilityRepository.findAllBySchedule(schedule)) {
+            heatmap.put(availability.getParticipantName(), availability.getAvailabilityBits());
+        }
+        return heatmapStore.putIfUnchanged(schedule.getId(), version, heatmap);
+    }
 
-        availabilityRepository.delete(availability);
+    // 제출 형식 -> 비트열, 스케줄 격자 칸 수와 다르면 거부
+    private static AvailabilityBits decodeAvailability(Schedule schedule, AvailabilitySubmitRequest request) {
+        try {
+            return AvailabilityCodec.decode(
+                    request.encodingOrDefault(), request.availabilityBinary(), schedule.availabilityLength()
+            );
+        } catch (IllegalArgumentException e) {
+            throw new AppException(ErrorCode.INVALID_AVAILABILITY);
+        }
     }
 }
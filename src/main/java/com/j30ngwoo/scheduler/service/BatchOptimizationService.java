@@ -0,0 +1,139 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.j30ngwoo.scheduler.common.exception.AppException;
+import com.j30ngwoo.scheduler.common.exception.ErrorCode;
+import com.j30ngwoo.scheduler.domain.Availability;
+import com.j30ngwoo.scheduler.domain.Schedule;
+import com.j30ngwoo.scheduler.domain.User;
+import com.j30ngwoo.scheduler.dto.BatchOptimizeRequest;
+import com.j30ngwoo.scheduler.dto.BatchOptimizeResult;
+import com.j30ngwoo.scheduler.dto.ScheduleOptimizeRequest;
+import com.j30ngwoo.scheduler.repository.AvailabilityRepository;
+import com.j30ngwoo.scheduler.repository.ScheduleRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+// 여러 스케줄을 한 번에 최적화. 참가자 일정은 쿼리 한 번으로 불러오고, 계산은 동시 실행 수를 제한해서 병렬 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchOptimizationService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final AvailabilityRepository availabilityRepository;
+    private final ScheduleOptimizerService optimizerService;
+    private final OptimizationResultCache resultCache;
+
+    @Value("${optimizer.batch.max-concurrency:0}")
+    private int maxConcurrency;
+
+    @Value("${optimizer.batch.max-schedules:100}")
+    private int maxSchedules;   // code 를 지정한 요청의 최대 개수
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private Semaphore permits;  // 모든 일괄 요청이 공유 (CPU 바운드)
+
+    @PostConstruct
+    public void init() {
+        this.permits = new Semaphore(maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 결과는 요청한 code 순서 (전체 요청이면 조회 순서)
+    public List<BatchOptimizeResult> optimize(BatchOptimizeRequest request, User owner) {
+        List<String> codes = request.codes() == null ? List.of()
+                : new ArrayList<>(new LinkedHashSet<>(request.codes()));
+        if (codes.size() > maxSchedules) {
+            throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        List<Schedule> schedules = codes.isEmpty()
+                ? scheduleRepository.findAllByOwner(owner)
+                : scheduleRepository.findAllByCodeIn(codes);
+
+        Map<String, Schedule> byCode = new HashMap<>();
+        for (Schedule schedule : schedules) byCode.put(schedule.getCode(), schedule);
+        if (codes.isEmpty()) codes = schedules.stream().map(Schedule::getCode).toList();
+
+        List<Schedule> owned = new ArrayList<>();
+        for (Schedule schedule : schedules) {
+            if (isOwner(schedule, owner)) owned.add(schedule);
+        }
+        // 캐시 key (스케줄별 버전) 는 참가자 일정을 불러오기 전에 만듦
+        ScheduleOptimizeRequest optimizeRequest = request.toOptimizeRequest();
+        Map<Long, OptimizationResultCache.Key> cacheKeys = new HashMap<>();
+        Map<Long, List<Availability>> availabilities = new HashMap<>();
+        for (Schedule schedule : owned) {
+            cacheKeys.put(schedule.getId(), resultCache.keyOf(schedule, optimizeRequest));
+            availabilities.put(schedule.getId(), new ArrayList<>());
+        }
+        if (!owned.isEmpty()) {
+            for (Availability a : availabilityRepository.findAllByScheduleIn(owned)) {
+                availabilities.get(a.getSchedule().getId()).add(a);
+            }
+        }
+
+        List<CompletableFuture<BatchOptimizeResult>> futures = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            Schedule schedule = byCode.get(code);
+            if (schedule == null) {
+                futures.add(CompletableFuture.completedFuture(BatchOptimizeResult.failure(code, ErrorCode.INVALID_INPUT_VALUE)));
+            } else if (!isOwner(schedule, owner)) {
+                futures.add(CompletableFuture.completedFuture(BatchOptimizeResult.failure(code, ErrorCode.FORBIDDEN)));
+            } else {
+                List<Availability> scheduleAvailabilities = availabilities.get(schedule.getId());
+                OptimizationResultCache.Key cacheKey = cacheKeys.get(schedule.getId());
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> optimizeOne(schedule, scheduleAvailabilities, optimizeRequest, cacheKey), executor
+                ));
+            }
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private BatchOptimizeResult optimizeOne(
+            Schedule schedule,
+            List<Availability> availabilities,
+            ScheduleOptimizeRequest request,
+            OptimizationResultCache.Key cacheKey
+    ) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BatchOptimizeResult.failure(schedule.getCode(), ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        try {
+            return BatchOptimizeResult.success(schedule.getCode(), optimizerService.optimize(schedule, availabilities, request, cacheKey));
+        } catch (AppException e) {
+            return BatchOptimizeResult.failure(schedule.getCode(), e.getErrorCode());
+        } catch (Exception e) {
+            log.error("[일괄 최적화] 실패: {}", schedule.getCode(), e);
+            return BatchOptimizeResult.failure(schedule.getCode(), ErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static boolean isOwner(Schedule schedule, User owner) {
+        return Objects.equals(schedule.getOwner().getId(), owner.getId());
+    }
+}
@@ -5,9 +5,10 @@ import com.j30ngwoo.scheduler.common.exception.ErrorCode;
 import com.j30ngwoo.scheduler.domain.User;
 import com.j30ngwoo.scheduler.dto.KakaoLoginResponse;
 import com.j30ngwoo.scheduler.repository.UserRepository;
+import com.j30ngwoo.scheduler.service.oauth.KakaoApiGuard;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
@@ -18,13 +19,16 @@ import org.springframework.web.client.RestClient;
 import java.time.Duration;
 import java.util.Map;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KakaoOAuthService {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE = new ParameterizedTypeReference<>() {};
+
     private final RestClient restClient;
     private final UserRepository userRepository;
     private final AuthService authService;
+    private final KakaoApiGuard kakaoApiGuard;
 
     @Value("${auth.kakao.client-id}")
     private String clientId;
@@ -35,6 +39,12 @@ public class KakaoOAuthService {
     @Value("${auth.kakao.redirect-uri}")
     private String redirectUri;
 
+    @Value("${auth.kakao.auth-base-url:https://kauth.kakao.com}")
+    private String authBaseUrl;
+
+    @Value("${auth.kakao.api-base-url:https://kapi.kakao.com}")
+    private String apiBaseUrl;
+
     public KakaoLoginResponse handleKakaoLoginCallback(String code) {
         String accessTokenFromKakao = getKakaoAccessToken(code);
         KakaoUser kakaoUser = getKakaoUserInfo(accessTokenFromKakao);
@@ -59,8 +69,6 @@ public class KakaoOAuthService {
     }
 
     public String getKakaoAccessToken(String code) {
-        String url = "https://kauth.kakao.com/oauth/token";
-
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", "authorization_code");
         params.add("client_id", clientId);
@@ -68,67 +76,47 @@ public class KakaoOAuthService {
         params.add("redirect_uri", redirectUri);
         params.add("client_secret", clientSecret);
 
-        try { // DEBUG
-            Map<String, Object> body = restClient.post()
-                    .uri(url)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(params)
-                    .retrieve()
-                    .body(Map.class);
-
-            log.info("카카오 토큰 응답 body: {}", body); // DEBUG
-
-            if (body == null || !body.containsKey("access_token")) {
-                throw new AppException(ErrorCode.OAUTH_COMMUNICATION_FAILED);
-            }
+        Map<String, Object> body = kakaoApiGuard.call("token", () -> restClient.post()
+                .uri(authBaseUrl + "/oauth/token")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(params)
+                .retrieve()
+                .body(MAP_TYPE));
 
-            return (String) body.get("access_token");
-        } catch (Exception e) {
-            log.error("OAuth 서버 통신 실패", e);
+        if (body == null || !body.containsKey("access_token")) {
             throw new AppException(ErrorCode.OAUTH_COMMUNICATION_FAILED);
         }
+        return (String) body.get("access_token");
     }
 
+    @SuppressWarnings("unchecked")
     private KakaoUser getKakaoUserInfo(String accessToken) {
-        String url = "https://kapi.kakao.com/v2/user/me";
-
-        try { // DEBUG
-            Map<String, Object> body = restClient.get()
-                    .uri(url)
-                    .headers(headers -> {
-                        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-                        headers.setBearerAuth(accessToken);
-                    })
-                    .retrieve()
-                    .body(Map.class);
-
-            if (body == null || !body.containsKey("id")) {
-                throw new AppException(ErrorCode.OAUTH_COMMUNICATION_FAILED);
-            }
-
-            Long id = ((Number) body.get("id")).longValue();
-            String nickname = ((Map<String, Object>) body.get("properties")).get("nickname").toString();
-
-            log.info("nickname: {}", nickname); //DEBUG
-
-            return new KakaoUser(id, nickname);
-        } catch (Exception e) {
-            log.error("OAuth 서버 통신 실패", e);
+        Map<String, Object> body = kakaoApiGuard.call("user/me", () -> restClient.get()
+                .uri(apiBaseUrl + "/v2/user/me")
+                .headers(headers -> {
+                    headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+                    headers.setBearerAuth(accessToken);
+                })
+                .retrieve()
+                .body(MAP_TYPE));
+
+        if (body == null || !body.containsKey("id") || !(body.get("properties") instanceof Map<?, ?> properties)) {
             throw new AppException(ErrorCode.OAUTH_COMMUNICATION_FAILED);
         }
+        if (!(((Map<String, Object>) properties).get("nickname") instanceof String nickname)) {
+            throw new AppException(ErrorCode.OAUTH_COMMUNICATION_FAILED);
+        }
+        Long id = ((Number) body.get("id")).longValue();
+        return new KakaoUser(id, nickname);
     }
 
-
     public void kakaoLogout(String kakaoAccessToken) {
-        String url = "https://kapi.kakao.com/v1/user/logout";
-        restClient.post()
-                .uri(url)
+        kakaoApiGuard.call("logout", () -> restClient.post()
+                .uri(apiBaseUrl + "/v1/user/logout")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                .headers(headers -> {
-                    headers.setBearerAuth(kakaoAccessToken);
-                })
+                .headers(headers -> headers.setBearerAuth(kakaoAccessToken))
                 .retrieve()
-                .body(Map.class);
+                .body(MAP_TYPE));
     }
 
     private record KakaoUser(Long kakaoId, String nickname) {}
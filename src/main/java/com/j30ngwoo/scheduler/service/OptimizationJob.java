@@ -0,0 +1,83 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.j30ngwoo.scheduler.common.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+// 비동기 최적화 작업 상태. 상태 전이는 PENDING -> RUNNING -> (SUCCEEDED | FAILED), 언제든 CANCELLED / TIMED_OUT 가능
+@Getter
+public class OptimizationJob {
+
+    public enum Status { PENDING, RUNNING, SUCCEEDED, FAILED, CANCELLED, TIMED_OUT }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String scheduleCode;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile Status status = Status.PENDING;
+    private volatile LocalDateTime finishedAt;
+    private volatile List<ScheduleOptimizerService.Assignment> result;
+    private volatile ErrorCode error;
+
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    @Getter(AccessLevel.NONE)
+    private volatile Future<?> future;
+
+    public OptimizationJob(String scheduleCode) {
+        this.scheduleCode = scheduleCode;
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    // 끝나면(성공/실패/취소/시간초과) 완료되는 future
+    CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    public boolean isFinished() {
+        return completion.isDone();
+    }
+
+    synchronized boolean start() {
+        if (status != Status.PENDING) return false;
+        status = Status.RUNNING;
+        return true;
+    }
+
+    synchronized void succeed(List<ScheduleOptimizerService.Assignment> result) {
+        if (status != Status.RUNNING) return;
+        this.result = result;
+        finish(Status.SUCCEEDED);
+    }
+
+    synchronized void fail(ErrorCode error) {
+        if (isFinished()) return;
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    // CANCELLED / TIMED_OUT 처리 후 실행 중인 스레드 interrupt
+    boolean abort(Status terminal) {
+        synchronized (this) {
+            if (isFinished()) return false;
+            finish(terminal);
+        }
+        Future<?> running = future;
+        if (running != null) running.cancel(true);
+        return true;
+    }
+
+    private void finish(Status terminal) {
+        status = terminal;
+        finishedAt = LocalDateTime.now();
+        completion.complete(null);
+    }
+}
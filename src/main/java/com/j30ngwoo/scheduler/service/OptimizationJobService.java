@@ -0,0 +1,137 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.j30ngwoo.scheduler.common.exception.AppException;
+import com.j30ngwoo.scheduler.common.exception.ErrorCode;
+import com.j30ngwoo.scheduler.dto.OptimizationJobResponse;
+import com.j30ngwoo.scheduler.dto.ScheduleOptimizeRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 최적화를 virtual thread 에서 비동기로 실행. 요청 스레드는 작업 id 만 받고 바로 반환
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OptimizationJobService {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(25);
+
+    private final ScheduleOptimizerService optimizerService;
+
+    @Value("${optimizer.jobs.max-concurrency:0}")
+    private int maxConcurrency;
+
+    @Value("${optimizer.jobs.max-pending:1000}")
+    private int maxPending;
+
+    @Value("${optimizer.jobs.timeout:60s}")
+    private Duration timeout;
+
+    @Value("${optimizer.jobs.retention:10m}")
+    private Duration retention;
+
+    private final Map<String, OptimizationJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private Semaphore runningPermits;   // 동시에 계산하는 작업 수 (CPU 바운드)
+    private Semaphore pendingPermits;   // 끝나지 않은 작업 수
+
+    @PostConstruct
+    public void init() {
+        int concurrency = maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors();
+        this.runningPermits = new Semaphore(concurrency);
+        this.pendingPermits = new Semaphore(maxPending);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public OptimizationJobResponse submit(String code, ScheduleOptimizeRequest request) {
+        if (!pendingPermits.tryAcquire()) {
+            throw new AppException(ErrorCode.TOO_MANY_OPTIMIZATION_JOBS);
+        }
+        OptimizationJob job = new OptimizationJob(code);
+        job.completion().whenComplete((ignored, e) -> pendingPermits.release());
+        jobs.put(job.getId(), job);
+        job.attach(executor.submit(() -> run(job, request)));
+        return OptimizationJobResponse.from(job);
+    }
+
+    // wait 가 주어지면 작업이 끝나거나 wait 가 지날 때까지 기다렸다가 응답 (요청 스레드는 점유하지 않음)
+    public CompletableFuture<OptimizationJobResponse> getJob(String jobId, Duration wait) {
+        OptimizationJob job = findJob(jobId);
+        if (job.isFinished() || wait.isZero() || wait.isNegative()) {
+            return CompletableFuture.completedFuture(OptimizationJobResponse.from(job));
+        }
+        long waitMillis = Math.min(wait.toMillis(), MAX_WAIT.toMillis());
+        return job.completion().copy()
+                .completeOnTimeout(null, waitMillis, TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> OptimizationJobResponse.from(job));
+    }
+
+    public OptimizationJobResponse cancel(String jobId) {
+        OptimizationJob job = findJob(jobId);
+        job.abort(OptimizationJob.Status.CANCELLED);
+        return OptimizationJobResponse.from(job);
+    }
+
+    // 시간 초과 작업 중단, 끝난 지 오래된 작업 정리
+    @Scheduled(fixedDelay = 1000)
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OptimizationJob> snapshot = List.copyOf(jobs.values());
+        for (OptimizationJob job : snapshot) {
+            if (!job.isFinished() && job.getCreatedAt().plus(timeout).isBefore(now)) {
+                if (job.abort(OptimizationJob.Status.TIMED_OUT)) {
+                    log.warn("[최적화 작업] 시간 초과: {} ({})", job.getId(), job.getScheduleCode());
+                }
+            } else if (job.isFinished() && job.getFinishedAt().plus(retention).isBefore(now)) {
+                jobs.remove(job.getId());
+            }
+        }
+    }
+
+    private void run(OptimizationJob job, ScheduleOptimizeRequest request) {
+        try {
+            runningPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            if (!job.start()) return;
+            job.succeed(optimizerService.optimize(job.getScheduleCode(), request));
+        } catch (AppException e) {
+            job.fail(e.getErrorCode());
+        } catch (Exception e) {
+            log.error("[최적화 작업] 실패: {}", job.getId(), e);
+            job.fail(ErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            runningPermits.release();
+        }
+    }
+
+    private OptimizationJob findJob(String jobId) {
+        OptimizationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new AppException(ErrorCode.OPTIMIZATION_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+}
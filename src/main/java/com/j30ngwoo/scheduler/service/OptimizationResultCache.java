@@ -0,0 +1,96 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.j30ngwoo.scheduler.domain.Schedule;
+import com.j30ngwoo.scheduler.dto.ScheduleOptimizeRequest;
+import com.j30ngwoo.scheduler.service.optimizer.OptimizationMode;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 최적화 결과 캐시. 스케줄 옵션/참가자 일정이 바뀔 때마다 스케줄별 버전을 올려서 이전 결과를 무효화
+@Component
+public class OptimizationResultCache {
+
+    @Value("${optimizer.cache.maximum-size:1000}")
+    private long maximumSize;
+
+    @Value("${optimizer.cache.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private Cache<Key, ScheduleOptimizerService.OptimizationResult> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    // 조회 시점의 버전을 담은 key (계산 도중 무효화되면 이 key 로 저장된 결과는 다시 조회되지 않음)
+    // 스케줄 옵션도 key 에 포함: 옵션 수정 직전에 읽어 둔 스케줄로 계산한 결과가 수정 후 버전으로 저장되어도 새 옵션으로는 조회되지 않음
+    public Key keyOf(Schedule schedule, ScheduleOptimizeRequest request) {
+        return new Key(
+                schedule.getId(),
+                versions.getOrDefault(schedule.getId(), 0L),
+                schedule.getMinHoursPerParticipant(),
+                schedule.getMaxHoursPerParticipant(),
+                schedule.getParticipantsPerSlot(),
+                request.modeOrDefault(),
+                request.isLectureDayWorkPriority(),
+                request.applyTravelTimeBuffer(),
+                request.incremental()
+        );
+    }
+
+    public ScheduleOptimizerService.OptimizationResult get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    // Roster 는 계산이 끝난 뒤 바뀌지 않으므로 그대로 보관
+    public void put(Key key, ScheduleOptimizerService.OptimizationResult result) {
+        cache.put(key, result);
+    }
+
+    // 변경이 커밋된 뒤 호출
+    public void invalidate(Long scheduleId) {
+        versions.merge(scheduleId, 1L, Long::sum);
+        cache.asMap().keySet().removeIf(key -> key.scheduleId().equals(scheduleId));
+    }
+
+    // 스케줄 삭제 후 호출 (버전 항목도 제거)
+    public void remove(Long scheduleId) {
+        versions.remove(scheduleId);
+        cache.asMap().keySet().removeIf(key -> key.scheduleId().equals(scheduleId));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public record Key(
+            Long scheduleId,
+            long version,
+            Integer minHoursPerParticipant,
+            Integer maxHoursPerParticipant,
+            Integer participantsPerSlot,
+            OptimizationMode mode,
+            boolean isLectureDayWorkPriority,
+            boolean applyTravelTimeBuffer,
+            boolean incremental
+    ) {}
+}
@@ -0,0 +1,35 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.j30ngwoo.scheduler.service.optimizer.OptimizationSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 스케줄별 마지막 최적화 결과 보관 (LRU)
+@Component
+public class OptimizationSnapshotStore {
+
+    private static final int MAX_SCHEDULES = 256;
+
+    private final Map<Long, OptimizationSnapshot> snapshots = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, OptimizationSnapshot> eldest) {
+                    return size() > MAX_SCHEDULES;
+                }
+            });
+
+    public OptimizationSnapshot get(Long scheduleId) {
+        return snapshots.get(scheduleId);
+    }
+
+    public void put(Long scheduleId, OptimizationSnapshot snapshot) {
+        snapshots.put(scheduleId, snapshot);
+    }
+
+    public void remove(Long scheduleId) {
+        snapshots.remove(scheduleId);
+    }
+}
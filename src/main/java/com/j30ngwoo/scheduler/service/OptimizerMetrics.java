@@ -0,0 +1,96 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.j30ngwoo.scheduler.service.optimizer.OptimizationMode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 최적화 단계별 소요 시간 / 입력 크기 지표 (mode 별). meter 는 미리 만들어 두고 계산마다 기록만 함
+// 스케줄 코드는 tag 로 쓰지 않고 (cardinality) 느린 계산만 로그로 남김
+@Slf4j
+@Component
+public class OptimizerMetrics {
+
+    public enum Phase {
+        LOAD,        // 참가자 일정 조회
+        PREPROCESS,  // slot 마스크 / 후보 역색인 구성
+        PASS1,       // 그리디 1차 배정
+        PASS2,       // 그리디 2차 배정
+        SOLVE,       // 1차 / 2차 구분이 없는 모드 (최소비용 유량, 포트폴리오, explain)
+        BUILD        // 배정 목록 응답 생성
+    }
+
+    private final Map<OptimizationMode, Map<Phase, Timer>> phaseTimers = new EnumMap<>(OptimizationMode.class);
+    private final Map<OptimizationMode, DistributionSummary> participants = new EnumMap<>(OptimizationMode.class);
+    private final Map<OptimizationMode, DistributionSummary> slots = new EnumMap<>(OptimizationMode.class);
+    private final Map<OptimizationMode, DistributionSummary> candidates = new EnumMap<>(OptimizationMode.class);
+    private final Map<OptimizationMode, DistributionSummary> unfilledSeats = new EnumMap<>(OptimizationMode.class);
+    private final Duration slowThreshold;
+
+    public OptimizerMetrics(
+            MeterRegistry registry,
+            @Value("${optimizer.metrics.slow-threshold:1s}") Duration slowThreshold
+    ) {
+        this.slowThreshold = slowThreshold;
+        for (OptimizationMode mode : OptimizationMode.values()) {
+            String modeTag = mode.name().toLowerCase(Locale.ROOT);
+            Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                timers.put(phase, Timer.builder("scheduler.optimizer.phase")
+                        .description("최적화 단계별 소요 시간")
+                        .tag("mode", modeTag)
+                        .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                        .publishPercentileHistogram()
+                        .register(registry));
+            }
+            phaseTimers.put(mode, timers);
+            participants.put(mode, summary(registry, "scheduler.optimizer.participants", "참가자 수", modeTag));
+            slots.put(mode, summary(registry, "scheduler.optimizer.slots", "slot 수", modeTag));
+            candidates.put(mode, summary(registry, "scheduler.optimizer.candidates", "2차 배정에서 평가한 후보 수", modeTag));
+            unfilledSeats.put(mode, summary(registry, "scheduler.optimizer.unfilled.seats", "채우지 못한 자리 수", modeTag));
+        }
+    }
+
+    public void recordPhase(OptimizationMode mode, Phase phase, long nanos) {
+        phaseTimers.get(mode).get(phase).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // candidatesEvaluated < 0 이면 (그리디가 아닌 모드) 기록하지 않음
+    public void recordRun(
+            String code,
+            OptimizationMode mode,
+            int participantCount,
+            int totalSlots,
+            long candidatesEvaluated,
+            long unfilled,
+            long elapsedNanos
+    ) {
+        participants.get(mode).record(participantCount);
+        slots.get(mode).record(totalSlots);
+        if (candidatesEvaluated >= 0) candidates.get(mode).record(candidatesEvaluated);
+        unfilledSeats.get(mode).record(unfilled);
+
+        if (elapsedNanos >= slowThreshold.toNanos()) {
+            log.warn("[최적화 지연] code={}, mode={}, 참가자 {}명, slot {}개, 후보 {}개, 빈 자리 {}개, {}ms",
+                    code, mode, participantCount, totalSlots, candidatesEvaluated, unfilled,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    private static DistributionSummary summary(MeterRegistry registry, String name, String description, String modeTag) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("mode", modeTag)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
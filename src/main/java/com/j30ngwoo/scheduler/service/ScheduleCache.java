@@ -0,0 +1,66 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.j30ngwoo.scheduler.domain.Schedule;
+import com.j30ngwoo.scheduler.repository.ScheduleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// code -> 스케줄 조회 캐시 (읽기 전용 경로용)
+// 영속성 컨텍스트와 무관한 복사본을 보관하므로 수정하면 안 되고, availabilities 는 null (참가자 일정은 리포지토리로 조회)
+// 수정 / 삭제 / 스케줄 상세 응답은 리포지토리에서 직접 조회하고, 옵션 수정 / 삭제가 commit 된 뒤 evict
+@Component
+@RequiredArgsConstructor
+public class ScheduleCache {
+
+    private final ScheduleRepository scheduleRepository;
+
+    @Value("${schedule.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${schedule.cache.expire-after-write:5m}")
+    private Duration expireAfterWrite;
+
+    private Cache<String, Schedule> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    // 없는 code 는 캐시하지 않음
+    public Optional<Schedule> findByCode(String code) {
+        return Optional.ofNullable(cache.get(code, key -> scheduleRepository.findByCode(key)
+                .map(ScheduleCache::detachedCopy)
+                .orElse(null)));
+    }
+
+    public void evict(String code) {
+        cache.invalidate(code);
+    }
+
+    private static Schedule detachedCopy(Schedule schedule) {
+        return Schedule.builder()
+                .id(schedule.getId())
+                .code(schedule.getCode())
+                .title(schedule.getTitle())
+                .startHour(schedule.getStartHour())
+                .endHour(schedule.getEndHour())
+                .owner(schedule.getOwner())
+                .minHoursPerParticipant(schedule.getMinHoursPerParticipant())
+                .maxHoursPerParticipant(schedule.getMaxHoursPerParticipant())
+                .participantsPerSlot(schedule.getParticipantsPerSlot())
+                .days(schedule.getDays())
+                .slotMinutes(schedule.getSlotMinutes())
+                .build();
+    }
+}
@@ -4,292 +4,303 @@ import com.j30ngwoo.scheduler.common.exception.AppException;
 import com.j30ngwoo.scheduler.common.exception.ErrorCode;
 import com.j30ngwoo.scheduler.domain.Availability;
 import com.j30ngwoo.scheduler.domain.Schedule;
+import com.j30ngwoo.scheduler.dto.DecisionEventResponse;
+import com.j30ngwoo.scheduler.dto.OptimizationCacheStatsResponse;
+import com.j30ngwoo.scheduler.dto.OptimizationExplainResponse;
+import com.j30ngwoo.scheduler.dto.ScheduleOptimizeRequest;
 import com.j30ngwoo.scheduler.repository.AvailabilityRepository;
-import com.j30ngwoo.scheduler.repository.ScheduleRepository;
+import com.j30ngwoo.scheduler.service.optimizer.DecisionTrace;
+import com.j30ngwoo.scheduler.service.optimizer.GreedyOptimizer;
+import com.j30ngwoo.scheduler.service.optimizer.MinCostFlowOptimizer;
+import com.j30ngwoo.scheduler.service.optimizer.OptimizationMode;
+import com.j30ngwoo.scheduler.service.optimizer.OptimizationSnapshot;
+import com.j30ngwoo.scheduler.service.optimizer.OptimizerStats;
+import com.j30ngwoo.scheduler.service.optimizer.Participant;
+import com.j30ngwoo.scheduler.service.optimizer.PortfolioOptimizer;
+import com.j30ngwoo.scheduler.service.optimizer.Roster;
+import com.j30ngwoo.scheduler.service.optimizer.SlotGrid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalTime;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduleOptimizerService {
 
-    private final ScheduleRepository scheduleRepository;
+    // 바뀐 참가자가 이 비율을 넘으면 부분 재배정 대신 전체 계산
+    private static final double MAX_REPAIR_RATIO = 0.25;
+
+    private final ScheduleCache scheduleCache;
     private final AvailabilityRepository availabilityRepository;
+    private final OptimizationSnapshotStore snapshotStore;
+    private final OptimizationResultCache resultCache;
+    private final ForkJoinPool optimizerPool;
+    private final OptimizerMetrics metrics;
+
+    @Value("${optimizer.portfolio.runs:16}")
+    private int portfolioRuns;
+
+    @Value("${optimizer.portfolio.budget:500ms}")
+    private Duration portfolioBudget;
 
     public List<Assignment> optimize(
             String code,
             boolean isLectureDayWorkPriority,
             boolean applyTravelTimeBuffer
     ) {
-        Schedule schedule = scheduleRepository.findByCode(code)
+        return optimize(code, new ScheduleOptimizeRequest(isLectureDayWorkPriority, applyTravelTimeBuffer, null, false));
+    }
+
+    public List<Assignment> optimize(String code, ScheduleOptimizeRequest request) {
+        return assignmentsOf(optimizeResult(code, request), request.modeOrDefault());
+    }
+
+    // 배정 목록을 만들지 않은 결과 (compact 응답용)
+    public OptimizationResult optimizeResult(String code, ScheduleOptimizeRequest request) {
+        Schedule schedule = scheduleCache.findByCode(code)
                 .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
+        return optimize(
+                schedule, request, resultCache.keyOf(schedule, request),
+                () -> availabilityRepository.findAllBySchedule(schedule)
+        );
+    }
 
-        int startHour = schedule.getStartHour();
-        int endHour = schedule.getEndHour();
-        int hoursPerDay = endHour - startHour;
-        int days = 5;
-        int totalSlots = hoursPerDay * days;
+    // 참가자 일정을 미리 한꺼번에 불러온 경우 (일괄 최적화)
+    // cacheKey 는 일정을 불러오기 전에 만든 것 (불러온 뒤 만들면 그 사이 제출로 오른 버전에 이전 일정의 결과가 저장됨)
+    public List<Assignment> optimize(
+            Schedule schedule,
+            List<Availability> availabilities,
+            ScheduleOptimizeRequest request,
+            OptimizationResultCache.Key cacheKey
+    ) {
+        return assignmentsOf(optimize(schedule, request, cacheKey, () -> availabilities), request.modeOrDefault());
+    }
 
-        // slot 정보 생성
-        List<TimeSlot> slots = new ArrayList<>(totalSlots);
-        for (int day = 0; day < days; day++) {
-            for (int h = 0; h < hoursPerDay; h++) {
-                slots.add(new TimeSlot(day, h,
-                        LocalTime.of(startHour + h, 0),
-                        LocalTime.of(startHour + h + 1, 0)
-                ));
-            }
+    // cacheKey 는 availabilities 를 읽기 전의 버전
+    private OptimizationResult optimize(
+            Schedule schedule,
+            ScheduleOptimizeRequest request,
+            OptimizationResultCache.Key cacheKey,
+            Supplier<List<Availability>> availabilities
+    ) {
+        OptimizationResult cached = resultCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
         }
+        long loadStart = System.nanoTime();
+        List<Availability> availList = availabilities.get();
+        metrics.recordPhase(request.modeOrDefault(), OptimizerMetrics.Phase.LOAD, System.nanoTime() - loadStart);
 
-        // 참가자별 가능한 slot 계산, ParticipantInfo 생성
-        List<ParticipantInfo> participants = new ArrayList<>();
-        List<Availability> availList = availabilityRepository.findAllBySchedule(schedule);
-        for (Availability a : availList) {
-            String name = a.getParticipantName();
-            String bits = a.getAvailabilityBits();
-            log.info("[{}] 버퍼 전 bits: {}", name, bits);
-            if (applyTravelTimeBuffer) {
-                bits = applyBuffer(bits, days, hoursPerDay);
-                log.info("[{}] 버퍼 적용 후 bits: {}", name, bits);
-            }
-            String slotBits = toSlotBits(bits, days, hoursPerDay);
-            log.info("[{}] 원본 bits: {}, length: {}", name, bits, bits.length());
-            log.info("[{}] 변환된 slotBits: {}, length: {}", name, slotBits, slotBits.length());
-            for (int i = 0; i < slotBits.length(); i++) {
-                if (slotBits.charAt(i) == '1') {
-                    TimeSlot ts = slots.get(i);
-                    log.info("    [{}] 가능 slot: {} ({}/{}, {}~{})", name, i, ts.day, ts.hourIndex, ts.start, ts.end);
-                }
-            }
-
-            log.info("[{}] slotBits: {}", name, slotBits);
-            List<Integer> possibleSlots = new ArrayList<>();
-            for (int i = 0; i < slotBits.length(); i++) {
-                if (slotBits.charAt(i) == '1') {
-                    possibleSlots.add(i);
-                    TimeSlot ts = slots.get(i);
-                    log.info("    [{}] 가능 slot: {} ({}/{}, {}~{})", name, i, ts.day, ts.hourIndex, ts.start, ts.end);
-                }
-            }
-            int minQuota = schedule.getMinHoursPerParticipant() != null ? schedule.getMinHoursPerParticipant() : 0;
-            int maxQuota = schedule.getMaxHoursPerParticipant() != null ? schedule.getMaxHoursPerParticipant() : totalSlots;
-            participants.add(new ParticipantInfo(name, slotBits, minQuota, maxQuota, possibleSlots));
-            log.info("[{}] minQuota={}, maxQuota={}, 할당기회={}", name, minQuota, maxQuota, possibleSlots.size());
+        OptimizationResult result = compute(schedule, availList, request, null);
+        if (result.cacheable()) {
+            resultCache.put(cacheKey, result);
         }
+        return result;
+    }
 
-        // 할당 기회가 적은 사람부터 오름차순 정렬
-        participants.sort(Comparator.comparingInt(p -> p.possibleSlots.size()));
+    private List<Assignment> assignmentsOf(OptimizationResult result, OptimizationMode mode) {
+        long start = System.nanoTime();
+        List<Assignment> assignments = result.assignments();
+        metrics.recordPhase(mode, OptimizerMetrics.Phase.BUILD, System.nanoTime() - start);
+        return assignments;
+    }
 
-        // slot별 배정 현황
-        List<List<String>> slotAssignments = new ArrayList<>(totalSlots);
-        for (int i = 0; i < totalSlots; i++) slotAssignments.add(new ArrayList<>());
+    // 캐시 / 부분 재배정 없이 전체 계산하면서 배정 과정을 함께 반환
+    public OptimizationExplainResponse explain(String code, ScheduleOptimizeRequest request) {
+        Schedule schedule = scheduleCache.findByCode(code)
+                .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
 
-        // 1차 배정
-        for (ParticipantInfo pi : participants) {
-            int assigned = 0;
-            log.info("[참가자 {}] [할당기회: {}] [1차 배정 시작] (maxQuota={})", pi.name, pi.possibleSlots.size(), pi.maxQuota);
-            List<Segment> segments = extractSegmentsGlobal(
-                    pi.slotBits, slotAssignments, schedule.getParticipantsPerSlot(), days, hoursPerDay
-            );
-            log.info("    [extractSegmentsGlobal] segments: ");
-            for (Segment s : segments) log.info("[start={},len={}] ", s.start, s.length);
-            segments.sort((s1, s2) -> {
-                if (isLectureDayWorkPriority) {
-                    boolean s1IsLectureDay = isLectureDayForSegment(s1, pi, days, hoursPerDay);
-                    boolean s2IsLectureDay = isLectureDayForSegment(s2, pi, days, hoursPerDay);
-                    if (s1IsLectureDay && !s2IsLectureDay) return -1;
-                    if (!s1IsLectureDay && s2IsLectureDay) return 1;
-                }
-                return Integer.compare(s2.length, s1.length);
-            });
-            for (Segment seg : segments) {
-                log.info("    [segment] start={}, length={}", seg.start, seg.length);
-                for (int i = 0; i < seg.length; i++) {
-                    int slotIdx = seg.start + i;
-                    TimeSlot ts = slots.get(slotIdx);
-                    if (assigned >= pi.maxQuota) {
-                        log.info("    [할당종료] quota 도달 (누적:{})", assigned);
-                        break;
-                    }
-                    if (slotAssignments.get(slotIdx).size() >= schedule.getParticipantsPerSlot()) {
-                        log.info("      [slot {} ({}/{})] 인원 가득 (skip)", slotIdx, ts.day, ts.hourIndex);
-                        continue;
-                    }
-                    slotAssignments.get(slotIdx).add(pi.name);
-                    assigned++;
-                    log.info("      [1차배정] {} => slot({}/{}) {}~{}, 누적:{}", pi.name, ts.day, ts.hourIndex, ts.start, ts.end, assigned);
-                }
-                if (assigned >= pi.maxQuota) break;
-            }
-            pi.assignedCount = assigned;
-            log.info("[1차배정요약] {} 최종 배정: {}개 (maxQuota: {})", pi.name, assigned, pi.maxQuota);
+        DecisionTrace trace = new DecisionTrace();
+        List<Assignment> assignments = compute(
+                schedule, availabilityRepository.findAllBySchedule(schedule), request, trace
+        ).assignments();
+        SlotGrid grid = gridOf(schedule);
+        List<DecisionEventResponse> events = new ArrayList<>(trace.size());
+        for (DecisionTrace.Event event : trace.events()) {
+            events.add(DecisionEventResponse.of(grid, event));
         }
+        return new OptimizationExplainResponse(assignments, events, trace.truncated());
+    }
 
-        // 2차: quota 못 채운 참가자 위주로 남은 slot 채우기
-        for (int slotIdx = 0; slotIdx < totalSlots; slotIdx++) {
-            final int currentSlotIdx = slotIdx;
-            while (slotAssignments.get(slotIdx).size() < schedule.getParticipantsPerSlot()) {
-                // quota 미달 + 배정 가능 + 아직 이 slot에 안 배정된 인원만 후보
-                List<ParticipantInfo> candidates = new ArrayList<>();
-                for (ParticipantInfo pi : participants) {
-                    if (pi.assignedCount >= pi.maxQuota) continue;
-                    if (pi.slotBits.charAt(slotIdx) != '1') continue;
-                    if (slotAssignments.get(slotIdx).contains(pi.name)) continue;
-                    candidates.add(pi);
-                }
-                if (candidates.isEmpty()) {
-                    log.info("  [slot {}] 후보 없음 (skip)", slotIdx);
-                    break;
-                }
-                // 후보자 출력
-                log.info("  [slot {}] 후보자: ", slotIdx);
-                for (ParticipantInfo c : candidates) log.info("{}(assigned:{}) ", c.name, c.assignedCount);
+    public OptimizationCacheStatsResponse getCacheStats() {
+        return OptimizationCacheStatsResponse.from(resultCache.stats(), resultCache.estimatedSize());
+    }
 
-                // 우선순위: 1. quota 적게 받은 사람 2. 수업 있는 날 옵션 3. 연속성 4. 이름순
-                candidates.sort((a, b) -> {
-                    int cmp = Integer.compare(a.assignedCount, b.assignedCount);
-                    if (cmp != 0) return cmp;
-                    if (isLectureDayWorkPriority) {
-                        boolean aLecture = hasLecture(a, currentSlotIdx, days, hoursPerDay);
-                        boolean bLecture = hasLecture(b, currentSlotIdx, days, hoursPerDay);
-                        if (aLecture && !bLecture) return -1;
-                        if (!aLecture && bLecture) return 1;
-                    }
-                    int aCont = isContiguousAssigned(slotAssignments, currentSlotIdx, a.name, days, hoursPerDay) ? -1 : 0;
-                    int bCont = isContiguousAssigned(slotAssignments, currentSlotIdx, b.name, days, hoursPerDay) ? -1 : 0;
-                    if (aCont != bCont) return aCont - bCont;
-                    return a.name.compareTo(b.name);
-                });
-                ParticipantInfo picked = candidates.get(0);
-                TimeSlot ts = slots.get(slotIdx);
-                slotAssignments.get(slotIdx).add(picked.name);
-                picked.assignedCount++;
-                log.info("    [2차배정] {} => slot({}/{}) {}~{}, 누적:{}", picked.name, ts.day, ts.hourIndex, ts.start, ts.end, picked.assignedCount);
-            }
-        }
+    // trace 가 주어지면 배정 과정을 기록 (부분 재배정은 사용하지 않음)
+    private OptimizationResult compute(
+            Schedule schedule,
+            List<Availability> availList,
+            ScheduleOptimizeRequest request,
+            DecisionTrace trace
+    ) {
+        boolean isLectureDayWorkPriority = request.isLectureDayWorkPriority();
+        boolean applyTravelTimeBuffer = request.applyTravelTimeBuffer();
+        OptimizationMode mode = request.modeOrDefault();
+        long start = System.nanoTime();
 
-        for (ParticipantInfo pi : participants) {
-            log.info("[최종배정] {} : {}개 배정됨 (maxQuota: {})", pi.name, pi.assignedCount, pi.maxQuota);
-        }
+        int slotMinutes = schedule.slotMinutesOrDefault();
+        SlotGrid grid = gridOf(schedule);
+        int days = grid.days();
+        int slotsPerDay = grid.slotsPerDay();
+        int totalSlots = grid.totalSlots();
 
-        List<Assignment> result = new ArrayList<>();
-        for (int idx = 0; idx < totalSlots; idx++) {
-            for (String name : slotAssignments.get(idx)) {
-                result.add(new Assignment(slots.get(idx), name));
-            }
+        // 참가자별 가능한 slot 마스크 계산 (quota 는 시간 단위 -> slot 수로 변환)
+        int slotsPerHour = 60 / slotMinutes;
+        int minQuota = schedule.getMinHoursPerParticipant() != null ? schedule.getMinHoursPerParticipant() * slotsPerHour : 0;
+        int maxQuota = schedule.getMaxHoursPerParticipant() != null ? schedule.getMaxHoursPerParticipant() * slotsPerHour : totalSlots;
+        List<Participant> participants = new ArrayList<>();
+        for (Availability a : availList) {
+            String name = a.getParticipantName();
+            long[] slotMask = grid.toSlotMask(a.getAvailabilityBits().toLongArray(), applyTravelTimeBuffer);
+            participants.add(Participant.of(grid, name, slotMask, minQuota, maxQuota));
         }
-        return result;
-    }
 
-    // 이동시간 고려
-    private static String applyBuffer(String bits, int days, int hoursPerDay) {
-        char[] arr = bits.toCharArray();
-        char[] result = Arrays.copyOf(arr, arr.length);
-        int slotsPerDay = hoursPerDay * 2;
-        for (int day = 0; day < days; day++) {
-            int base = day * slotsPerDay;
-            for (int i = 0; i < slotsPerDay; i++) {
-                int idx = base + i;
-                if (arr[idx] == '0') {
-                    // 앞
-                    int prev = idx - 1;
-                    if (prev >= base) result[prev] = '0';
-                    // 뒤
-                    int next = idx + 1;
-                    if (next < base + slotsPerDay) result[next] = '0';
-                }
+        int participantsPerSlot = schedule.getParticipantsPerSlot();
+        OptimizationSnapshot.Settings settings = new OptimizationSnapshot.Settings(
+                mode, isLectureDayWorkPriority, applyTravelTimeBuffer,
+                days, slotsPerDay, slotMinutes, participantsPerSlot, minQuota, maxQuota
+        );
+        long preprocessNanos = System.nanoTime() - start;
+        // 그리디(explain 제외)만 1차 / 2차 단계를 나눠서 기록
+        OptimizerStats stats = mode == OptimizationMode.GREEDY && trace == null ? new OptimizerStats() : null;
+        long solveStart = System.nanoTime();
+        boolean cacheable = true;
+        Roster roster = switch (mode) {
+            case GREEDY -> trace != null
+                    ? new GreedyOptimizer(grid, participantsPerSlot, isLectureDayWorkPriority).optimize(participants, trace)
+                    : optimizeGreedy(schedule.getId(), settings, grid, participants, request.incremental(), stats);
+            case MIN_COST_FLOW -> new MinCostFlowOptimizer(grid, participantsPerSlot, isLectureDayWorkPriority)
+                    .optimize(participants);
+            case PORTFOLIO -> {
+                PortfolioOptimizer.Result portfolio = new PortfolioOptimizer(
+                        grid, participantsPerSlot, isLectureDayWorkPriority, optimizerPool, portfolioRuns, portfolioBudget
+                ).optimize(participants);
+                // 시간 예산 안에 끝난 실행에 따라 결과가 달라지므로 모든 실행이 끝났을 때만 캐시
+                cacheable = portfolio.complete();
+                yield portfolio.roster();
             }
-        }
-        return new String(result);
-    }
+        };
+        long end = System.nanoTime();
 
-    // half-hour bits → slot별 1/0 변환
-    private static String toSlotBits(String bits, int days, int hours) {
-        StringBuilder sb = new StringBuilder();
-        for (int day = 0; day < days; day++) {
-            int base = day * hours * 2;
-            for (int h = 0; h < hours; h++) {
-                int bitIdx1 = base + h * 2;
-                int bitIdx2 = bitIdx1 + 1;
-                boolean can = bitIdx2 < bits.length()
-                        && bits.charAt(bitIdx1) == '1'
-                        && bits.charAt(bitIdx2) == '1';
-                sb.append(can ? '1' : '0');
+        if (stats != null) {
+            metrics.recordPhase(mode, OptimizerMetrics.Phase.PREPROCESS, preprocessNanos + stats.setupNanos());
+            if (stats.runs() > 0) {
+                metrics.recordPhase(mode, OptimizerMetrics.Phase.PASS1, stats.pass1Nanos());
+                metrics.recordPhase(mode, OptimizerMetrics.Phase.PASS2, stats.pass2Nanos());
             }
+        } else {
+            metrics.recordPhase(mode, OptimizerMetrics.Phase.PREPROCESS, preprocessNanos);
+            metrics.recordPhase(mode, OptimizerMetrics.Phase.SOLVE, end - solveStart);
         }
-        return sb.toString();
-    }
+        metrics.recordRun(
+                schedule.getCode(), mode, participants.size(), totalSlots,
+                stats != null && stats.runs() > 0 ? stats.candidatesEvaluated() : -1,
+                (long) totalSlots * participantsPerSlot - roster.filledSeats(),
+                end - start
+        );
 
-    // 전체 slotBits에서 연속 구간 추출
-    private static List<Segment> extractSegmentsGlobal(
-            String bits, List<List<String>> slotAssignments, int maxPerSlot, int days, int hoursPerDay) {
-        List<Segment> segs = new ArrayList<>();
-        for (int day = 0; day < days; day++) {
-            int base = day * hoursPerDay;
-            int idx = base;
-            while (idx < base + hoursPerDay) {
-                if (bits.charAt(idx) == '1' && slotAssignments.get(idx).size() < maxPerSlot) {
-                    int start = idx;
-                    while (
-                            idx < base + hoursPerDay &&
-                                    bits.charAt(idx) == '1' &&
-                                    slotAssignments.get(idx).size() < maxPerSlot
-                    ) idx++;
-                    segs.add(new Segment(start, idx - start));
-                } else {
-                    idx++;
-                }
-            }
+        if (trace != null && mode != OptimizationMode.GREEDY) {
+            trace.recordSummary(participants, roster);
         }
-        return segs;
+        return new OptimizationResult(days, slotsPerDay, schedule.getStartHour() * 60, slotMinutes, roster, cacheable);
     }
 
-    private static boolean isLectureDayForSegment(Segment seg, ParticipantInfo p, int days, int hoursPerDay) {
-        int day = seg.start / hoursPerDay;
-        int dayStart = day * hoursPerDay;
-        int dayEnd = dayStart + hoursPerDay;
-        for (int j = dayStart; j < dayEnd; j++) {
-            if (p.slotBits.charAt(j) == '0') {
-                return true; // 이 요일은 수업 있는 날!
+    // 직전 결과와 설정이 같고 바뀐 참가자가 일부뿐이면 부분 재배정, 아니면 전체 계산
+    private Roster optimizeGreedy(
+            Long scheduleId,
+            OptimizationSnapshot.Settings settings,
+            SlotGrid grid,
+            List<Participant> participants,
+            boolean incremental,
+            OptimizerStats stats
+    ) {
+        GreedyOptimizer optimizer = new GreedyOptimizer(
+                grid, settings.participantsPerSlot(), settings.isLectureDayWorkPriority()
+        );
+        OptimizationSnapshot previous = incremental ? snapshotStore.get(scheduleId) : null;
+
+        Roster roster;
+        if (previous != null && previous.settings().equals(settings)) {
+            Set<String> changed = previous.changedParticipants(participants);
+            if (changed.isEmpty()) {
+                log.debug("[부분 재배정] 변경 없음, 직전 결과 재사용");
+                return previous.roster();
             }
+            roster = changed.size() <= participants.size() * MAX_REPAIR_RATIO
+                    ? optimizer.repair(participants, previous.roster(), changed, stats)
+                    : optimizer.optimize(participants, stats);
+        } else {
+            roster = optimizer.optimize(participants, stats);
         }
-        return false; // 이 요일은 수업 없는 날
+        snapshotStore.put(scheduleId, OptimizationSnapshot.of(settings, participants, roster));
+        return roster;
     }
 
-    // 수업 있는 날 옵션
-    private static boolean hasLecture(ParticipantInfo p, int slotIdx, int days, int hoursPerDay) {
-        int day = slotIdx / hoursPerDay;
-        int start = day * hoursPerDay;
-        for (int i = start; i < start + hoursPerDay; i++) {
-            if (p.slotBits.charAt(i) == '0') return true;
+    // 1시간 slot: 30분 입력 두 칸 = slot 하나, 30분 / 15분 slot: 입력 한 칸 = slot 하나
+    // 이동시간 버퍼는 항상 30분 (15분 slot 이면 두 칸)
+    private static SlotGrid gridOf(Schedule schedule) {
+        int hoursPerDay = schedule.getEndHour() - schedule.getStartHour();
+        if (hoursPerDay < 0) {
+            throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
         }
-        return false;
+        int slotMinutes = schedule.slotMinutesOrDefault();
+        int unitMinutes = schedule.unitMinutes();
+        return new SlotGrid(
+                schedule.daysOrDefault(),
+                hoursPerDay * 60 / slotMinutes,
+                slotMinutes / unitMinutes,
+                30 / unitMinutes
+        );
     }
 
-    // 연속 배정 여부(직전/직후)
-    private static boolean isContiguousAssigned(List<List<String>> slotAssignments, int slotIdx, String name, int days, int hoursPerDay) {
-        int prev = slotIdx - 1;
-        int next = slotIdx + 1;
-        return (prev >= 0 && slotAssignments.get(prev).contains(name)) ||
-                (next < slotAssignments.size() && slotAssignments.get(next).contains(name));
+    // 24:00 은 LocalTime 으로 표현할 수 없어서 00:00 으로 표기
+    private static LocalTime timeOf(int minuteOfDay) {
+        return minuteOfDay >= 24 * 60 ? LocalTime.MIDNIGHT : LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
     }
 
-    private static class ParticipantInfo {
-        String name;
-        String slotBits; // slot별 가능여부 ('1','0')
-        int minQuota, maxQuota;
-        List<Integer> possibleSlots;
-        int assignedCount = 0;
-        ParticipantInfo(String n, String b, int min, int max, List<Integer> possibleSlots) {
-            name = n; slotBits = b; minQuota = min; maxQuota = max; this.possibleSlots = possibleSlots;
-        }
-    }
-    private record Segment(int start, int length) {}
+    // hourIndex: 하루 중 slot 순번 (1시간 단위 스케줄이면 시간 순번)
     public record TimeSlot(int day, int hourIndex, LocalTime start, LocalTime end) {}
     public record Assignment(TimeSlot slot, String assignee) {}
+
+    // 계산 결과. 캐시에는 이 형태로 보관하고 목록 응답이 필요할 때만 Assignment 로 풀어냄
+    // slot 번호 = day * slotsPerDay + 하루 중 순번, roster 의 참가자 id 는 roster.name(id) 로 이름 조회
+    // cacheable: 같은 입력이면 항상 같은 결과인지 (포트폴리오가 시간 예산을 넘기면 false)
+    public record OptimizationResult(
+            int days,
+            int slotsPerDay,
+            int startMinute,
+            int slotMinutes,
+            Roster roster,
+            boolean cacheable
+    ) {
+
+        public TimeSlot timeSlot(int slot) {
+            int indexInDay = slot % slotsPerDay;
+            int slotStart = startMinute + indexInDay * slotMinutes;
+            return new TimeSlot(slot / slotsPerDay, indexInDay, timeOf(slotStart), timeOf(slotStart + slotMinutes));
+        }
+
+        public List<Assignment> assignments() {
+            List<Assignment> result = new ArrayList<>(roster.filledSeats());
+            for (int idx = 0; idx < roster.totalSlots(); idx++) {
+                int count = roster.count(idx);
+                if (count == 0) continue;
+                TimeSlot slot = timeSlot(idx);
+                for (int i = 0; i < count; i++) {
+                    result.add(new Assignment(slot, roster.name(roster.participant(idx, i))));
+                }
+            }
+            return result;
+        }
+    }
 }
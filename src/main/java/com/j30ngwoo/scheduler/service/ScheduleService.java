@@ -4,23 +4,43 @@ import com.j30ngwoo.scheduler.common.exception.AppException;
 import com.j30ngwoo.scheduler.common.exception.ErrorCode;
 import com.j30ngwoo.scheduler.domain.Schedule;
 import com.j30ngwoo.scheduler.domain.User;
+import com.j30ngwoo.scheduler.dto.PageResponse;
 import com.j30ngwoo.scheduler.dto.ScheduleCreateRequest;
 import com.j30ngwoo.scheduler.dto.ScheduleOptionUpdateRequest;
 import com.j30ngwoo.scheduler.dto.ScheduleResponse;
+import com.j30ngwoo.scheduler.dto.ScheduleSummaryResponse;
 import com.j30ngwoo.scheduler.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
+    private final OptimizationResultCache optimizationResultCache;
+    private final OptimizationSnapshotStore optimizationSnapshotStore;
+    private final AvailabilityHeatmapStore heatmapStore;
+    private final ScheduleCache scheduleCache;
+
+    private static final Set<Integer> SLOT_MINUTES = Set.of(15, 30, 60);
+    private static final int MAX_SUMMARY_PAGE_SIZE = 100;
 
     public ScheduleResponse createSchedule(ScheduleCreateRequest request, User owner) {
+        if (request.slotMinutes() != null && !SLOT_MINUTES.contains(request.slotMinutes())) {
+            throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (request.startHour() < 0 || request.endHour() > 24 || request.startHour() > request.endHour()) {
+            throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
+        }
         Schedule schedule = Schedule.builder()
                 .title(request.title())
                 .startHour(request.startHour())
@@ -29,6 +49,8 @@ public class ScheduleService {
                 .minHoursPerParticipant(request.minHoursPerParticipant())
                 .maxHoursPerParticipant(request.maxHoursPerParticipant())
                 .participantsPerSlot(request.participantsPerSlot())
+                .days(request.days())
+                .slotMinutes(request.slotMinutes())
                 .availabilities(new ArrayList<>())
                 .build();
 
@@ -37,17 +59,25 @@ public class ScheduleService {
     }
 
     public List<ScheduleResponse> getSchedulesByUser(User owner) {
-        return scheduleRepository.findAllByOwner(owner).stream()
+        return scheduleRepository.findWithAvailabilitiesByOwner(owner).stream()
                 .map(ScheduleResponse::from)
                 .toList();
     }
 
+    public PageResponse<ScheduleSummaryResponse> getScheduleSummaries(User owner, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_SUMMARY_PAGE_SIZE) {
+            throw new AppException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return PageResponse.from(scheduleRepository.findSummariesByOwner(owner, PageRequest.of(page, size)));
+    }
+
     public ScheduleResponse getScheduleByCode(String code) {
         Schedule schedule = scheduleRepository.findByCode(code)
                 .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
         return ScheduleResponse.from(schedule);
     }
 
+    @Transactional
     public void deleteSchedule(String code, User owner) {
         Schedule schedule = scheduleRepository.findByCode(code)
                 .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
@@ -55,8 +85,15 @@ public class ScheduleService {
             throw new AppException(ErrorCode.FORBIDDEN);
         }
         scheduleRepository.delete(schedule);
+        afterCommit(() -> {
+            scheduleCache.evict(code);
+            optimizationResultCache.remove(schedule.getId());
+            optimizationSnapshotStore.remove(schedule.getId());
+            heatmapStore.remove(schedule.getId());
+        });
     }
 
+    @Transactional
     public void updateOptions(String code, ScheduleOptionUpdateRequest request) {
         Schedule schedule = scheduleRepository.findByCode(code)
                 .orElseThrow(() -> new AppException(ErrorCode.INVALID_INPUT_VALUE));
@@ -69,5 +106,19 @@ public class ScheduleService {
             schedule.setParticipantsPerSlot(request.participantsPerSlot());
 
         scheduleRepository.save(schedule);
+        afterCommit(() -> {
+            scheduleCache.evict(code);
+            optimizationResultCache.invalidate(schedule.getId());
+        });
+    }
+
+    // 캐시 정리는 commit 뒤에 (commit 전에 정리하면 그 사이 다른 요청이 이전 값을 다시 읽어 캐시에 넣고, 그 뒤로는 지워지지 않음)
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,91 @@
+package com.j30ngwoo.scheduler.service.availability;
+
+import com.j30ngwoo.scheduler.domain.AvailabilityBits;
+
+import java.util.Base64;
+
+// 제출된 가용 시간 -> AvailabilityBits. 정규식 없이 한 번 훑으면서 형식과 길이(스케줄 격자 칸 수)를 함께 검사
+// 형식이 잘못되면 IllegalArgumentException
+public final class AvailabilityCodec {
+
+    private AvailabilityCodec() {
+    }
+
+    public static AvailabilityBits decode(AvailabilityEncoding encoding, String value, int length) {
+        return switch (encoding) {
+            case BINARY -> checkBinary(value, length);
+            case BASE64 -> decodeBase64(value, length);
+            case RANGES -> decodeRanges(value, length);
+        };
+    }
+
+    private static AvailabilityBits checkBinary(String value, int length) {
+        if (value.length() != length) {
+            throw new IllegalArgumentException("length " + value.length() + " != " + length);
+        }
+        return AvailabilityBits.parse(value);
+    }
+
+    private static AvailabilityBits decodeBase64(String value, int length) {
+        int expected = (length + 7) / 8;
+        // 디코딩 전에 길이부터 검사 (패딩 포함 최대 4 * ceil(바이트 수 / 3) 글자)
+        int maxChars = 4 * ((expected + 2) / 3);
+        if (value.length() > maxChars) {
+            throw new IllegalArgumentException("encoded length " + value.length() + " > " + maxChars);
+        }
+        byte[] bytes = Base64.getDecoder().decode(value);
+        if (bytes.length != expected) {
+            throw new IllegalArgumentException("byte length " + bytes.length + " != " + expected);
+        }
+        int spare = bytes.length * 8 - length;
+        if (spare > 0 && (bytes[bytes.length - 1] & ((1 << spare) - 1)) != 0) {
+            throw new IllegalArgumentException("padding bits must be 0");
+        }
+        return AvailabilityBits.fromPacked(bytes, 0, length);
+    }
+
+    private static AvailabilityBits decodeRanges(String value, int length) {
+        long[] words = new long[(length + 63) >>> 6];
+        int pos = 0;
+        int n = value.length();
+        int prevEnd = 0;
+        while (pos < n) {
+            int start = 0;
+            int digits = 0;
+            for (; pos < n && isDigit(value.charAt(pos)); pos++, digits++) {
+                start = start * 10 + (value.charAt(pos) - '0');
+                if (start > length) throw new IllegalArgumentException("range out of grid");
+            }
+            if (digits == 0 || pos == n || value.charAt(pos) != '-') {
+                throw new IllegalArgumentException("invalid range at " + pos);
+            }
+            pos++;
+            int end = 0;
+            digits = 0;
+            for (; pos < n && isDigit(value.charAt(pos)); pos++, digits++) {
+                end = end * 10 + (value.charAt(pos) - '0');
+                if (end > length) throw new IllegalArgumentException("range out of grid");
+            }
+            if (digits == 0 || start >= end || start < prevEnd) {
+                throw new IllegalArgumentException("invalid range at " + pos);
+            }
+            setRange(words, start, end);
+            prevEnd = end;
+            if (pos < n) {
+                if (value.charAt(pos) != ',' || pos == n - 1) {
+                    throw new IllegalArgumentException("invalid separator at " + pos);
+                }
+                pos++;
+            }
+        }
+        return AvailabilityBits.of(words, length);
+    }
+
+    private static void setRange(long[] words, int from, int to) {
+        for (int i = from; i < to; i++) words[i >>> 6] |= 1L << i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,8 @@
+package com.j30ngwoo.scheduler.service.availability;
+
+// 가용 시간 제출 형식. 어떤 형식이든 AvailabilityCodec 이 AvailabilityBits 로 풀어서 처리
+public enum AvailabilityEncoding {
+    BINARY,  // 칸마다 '0' / '1' 한 글자 (기본값)
+    BASE64,  // 칸마다 1비트, 앞 칸이 상위 비트 (8칸 = 1바이트, 남는 비트는 0)
+    RANGES   // 가능한 칸 구간 "start-end,start-end" (end 미포함, 오름차순), 빈 문자열이면 가능한 칸 없음
+}
@@ -0,0 +1,67 @@
+package com.j30ngwoo.scheduler.service.availability;
+
+import com.j30ngwoo.scheduler.domain.AvailabilityBits;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 스케줄 하나의 입력 칸별 가능 인원 수. 제출/삭제 때 바뀐 참가자 비트만 빼고 더함 (전체 재계산 없음)
+public final class AvailabilityHeatmap {
+
+    private final int length;
+    private final int[] counts;
+    private final Map<String, AvailabilityBits> participants = new LinkedHashMap<>();
+
+    public AvailabilityHeatmap(int length) {
+        this.length = length;
+        this.counts = new int[length];
+    }
+
+    public int length() {
+        return length;
+    }
+
+    // 새 참가자 추가 또는 기존 참가자 비트 교체 (이전 비트는 빼고 새 비트를 더함)
+    public synchronized void put(String name, AvailabilityBits bits) {
+        AvailabilityBits previous = participants.put(name, bits);
+        if (previous != null) apply(previous, -1);
+        apply(bits, 1);
+    }
+
+    public synchronized void remove(String name) {
+        AvailabilityBits previous = participants.remove(name);
+        if (previous != null) apply(previous, -1);
+    }
+
+    // unit 이 -1 이면 가능한 참가자 목록은 만들지 않음
+    public synchronized View view(int unit) {
+        List<String> available = null;
+        if (unit >= 0) {
+            available = new ArrayList<>(counts[unit]);
+            for (Map.Entry<String, AvailabilityBits> entry : participants.entrySet()) {
+                AvailabilityBits bits = entry.getValue();
+                if (unit < bits.length() && bits.get(unit)) available.add(entry.getKey());
+            }
+        }
+        return new View(participants.size(), counts.clone(), available);
+    }
+
+    // 격자보다 긴 부분은 무시
+    private void apply(AvailabilityBits bits, int delta) {
+        long[] words = bits.toLongArray();
+        int limit = Math.min(bits.length(), length);
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                if (i >= limit) return;
+                counts[i] += delta;
+                word &= word - 1;
+            }
+        }
+    }
+
+    public record View(int participantCount, int[] counts, List<String> available) {}
+}
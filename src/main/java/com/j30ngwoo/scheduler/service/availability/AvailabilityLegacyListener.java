@@ -0,0 +1,20 @@
+package com.j30ngwoo.scheduler.service.availability;
+
+import com.j30ngwoo.scheduler.domain.Availability;
+import jakarta.persistence.PostLoad;
+import lombok.RequiredArgsConstructor;
+
+// 비트 묶음 컬럼이 비어 있는 행(이전 전)을 읽으면 옛 0/1 문자열 컬럼 값으로 채움
+// Hibernate 가 Spring 빈으로 만들어 주입 (SpringBeanContainer)
+@RequiredArgsConstructor
+public class AvailabilityLegacyListener {
+
+    private final AvailabilityStorageMigration migration;
+
+    @PostLoad
+    public void fillLegacy(Availability availability) {
+        if (availability.getAvailabilityBits() == null) {
+            availability.setLegacyAvailabilityBits(migration.readLegacy(availability.getId()));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.j30ngwoo.scheduler.service.availability;
+
+import com.j30ngwoo.scheduler.domain.AvailabilityBits;
+import com.j30ngwoo.scheduler.domain.AvailabilityBitsConverter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 기존 0/1 문자열 컬럼(availability_bits) -> 비트 묶음 컬럼(availability_packed) 이전
+// ddl-auto=update 는 새 컬럼만 추가하므로, 옛 컬럼이 남아 있으면 NULL 허용으로 바꾸고 batch-size 행씩 옮기면서 비움
+// 새 행이 옛 컬럼 NOT NULL 에 막히지 않도록 NULL 허용 변경만 싱글톤 생성 직후에 하고,
+// 행 이전은 기동이 끝난 뒤(ApplicationReadyEvent) 백그라운드에서 실행. 읽을 수 없는 행은 로그만 남기고 옛 컬럼에 그대로 둠
+// 이전이 끝나기 전에는 AvailabilityLegacyListener 가 옛 컬럼을 대신 읽음. 옛 컬럼은 이전이 끝난 뒤 수동으로 삭제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityStorageMigration implements SmartInitializingSingleton {
+
+    private static final String TABLE = "availability";
+    private static final String LEGACY_COLUMN = "availability_bits";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AvailabilityBitsConverter converter = new AvailabilityBitsConverter();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("availability-migration").factory());
+
+    @Value("${availability.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${availability.migration.batch-size:500}")
+    private int batchSize;
+
+    private volatile Boolean legacyColumnPresent; // 처음 확인할 때 채움
+    private volatile boolean completed;           // true 면 옛 컬럼을 더 읽지 않음
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        LegacyColumn legacy = findLegacyColumn();
+        legacyColumnPresent = legacy != null;
+        if (legacy != null && !legacy.nullable()) {
+            allowNull(legacy.databaseProduct());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            executor.submit(this::migrate);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void migrate() {
+        try {
+            if (!legacyColumnPresent()) {
+                completed = true;
+                return;
+            }
+
+            int migrated = 0;
+            int skipped = 0;
+            long lastId = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                // 건너뛴 행은 옛 컬럼이 남아 있으므로 id 순으로 넘어감
+                List<Object[]> rows = jdbcTemplate.query(
+                        "select id, " + LEGACY_COLUMN + " from " + TABLE
+                                + " where id > ? and " + LEGACY_COLUMN + " is not null order by id limit ?",
+                        (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)},
+                        lastId, batchSize
+                );
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Object[]> updates = new ArrayList<>(rows.size());
+                for (Object[] row : rows) {
+                    lastId = (Long) row[0];
+                    try {
+                        byte[] packed = converter.convertToDatabaseColumn(AvailabilityBits.parse((String) row[1]));
+                        updates.add(new Object[]{packed, row[0]});
+                    } catch (IllegalArgumentException e) {
+                        log.warn("[가용 시간 이전] id={} 건너뜀: {}", row[0], e.getMessage());
+                        skipped++;
+                    }
+                }
+                if (!updates.isEmpty()) {
+                    // 그 사이 새로 제출된 행(availability_packed 가 채워진 행)은 덮어쓰지 않음
+                    jdbcTemplate.batchUpdate(
+                            "update " + TABLE + " set availability_packed = ?, " + LEGACY_COLUMN + " = null"
+                                    + " where id = ? and availability_packed is null",
+                            updates
+                    );
+                }
+                migrated += updates.size();
+            }
+            jdbcTemplate.update(
+                    "update " + TABLE + " set " + LEGACY_COLUMN + " = null"
+                            + " where " + LEGACY_COLUMN + " is not null and availability_packed is not null"
+            );
+            if (migrated > 0 || skipped > 0) {
+                log.info("[가용 시간 이전] {}건 이전, {}건 건너뜀", migrated, skipped);
+            }
+            // 건너뛴 행이 있으면 옛 컬럼을 계속 읽음
+            completed = skipped == 0 && !Thread.currentThread().isInterrupted();
+        } catch (RuntimeException e) {
+            log.error("[가용 시간 이전] 중단, 다음 기동 때 이어서 진행", e);
+        }
+    }
+
+    // 아직 이전되지 않은 행의 가용 시간. 옛 컬럼이 없거나 이전이 끝났으면 null
+    // 읽는 사이에 이전된 행은 새 컬럼 값을, 읽을 수 없는 옛 값은 빈 비트열(가능한 칸 없음)을 돌려줌
+    public AvailabilityBits readLegacy(Long id) {
+        if (completed || !legacyColumnPresent()) {
+            return null;
+        }
+        List<AvailabilityBits> found = jdbcTemplate.query(
+                "select availability_packed, " + LEGACY_COLUMN + " from " + TABLE + " where id = ?",
+                (rs, rowNum) -> {
+                    byte[] packed = rs.getBytes(1);
+                    if (packed != null) {
+                        return converter.convertToEntityAttribute(packed);
+                    }
+                    String legacy = rs.getString(2);
+                    if (legacy == null) {
+                        return null;
+                    }
+                    try {
+                        return AvailabilityBits.parse(legacy);
+                    } catch (IllegalArgumentException e) {
+                        return AvailabilityBits.parse("");
+                    }
+                },
+                id
+        );
+        return found.isEmpty() ? null : found.getFirst();
+    }
+
+    private boolean legacyColumnPresent() {
+        Boolean present = legacyColumnPresent;
+        if (present == null) {
+            present = findLegacyColumn() != null;
+            legacyColumnPresent = present;
+        }
+        return present;
+    }
+
+    // 옛 컬럼이 없으면 (새로 만든 DB) null
+    private LegacyColumn findLegacyColumn() {
+        return jdbcTemplate.execute((ConnectionCallback<LegacyColumn>) con -> {
+            DatabaseMetaData meta = con.getMetaData();
+            // H2 는 이름을 대문자로 저장
+            for (String table : List.of(TABLE, TABLE.toUpperCase(Locale.ROOT))) {
+                String column = table.equals(TABLE) ? LEGACY_COLUMN : LEGACY_COLUMN.toUpperCase(Locale.ROOT);
+                try (ResultSet rs = meta.getColumns(con.getCatalog(), null, table, column)) {
+                    if (rs.next()) {
+                        boolean nullable = rs.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls;
+                        return new LegacyColumn(meta.getDatabaseProductName(), nullable);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private void allowNull(String databaseProduct) {
+        String sql = databaseProduct.toLowerCase(Locale.ROOT).contains("mysql")
+                ? "alter table " + TABLE + " modify " + LEGACY_COLUMN + " varchar(255) null"
+                : "alter table " + TABLE + " alter column " + LEGACY_COLUMN + " set null";
+        jdbcTemplate.execute(sql);
+    }
+
+    private record LegacyColumn(String databaseProduct, boolean nullable) {}
+}
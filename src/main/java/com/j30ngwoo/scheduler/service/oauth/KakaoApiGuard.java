@@ -0,0 +1,86 @@
+package com.j30ngwoo.scheduler.service.oauth;
+
+import com.j30ngwoo.scheduler.common.exception.AppException;
+import com.j30ngwoo.scheduler.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 카카오 API 호출 보호: 동시 호출 수 제한 + 연속 실패 시 일정 시간 바로 실패 (circuit breaker)
+// 대기 / 차단 중이면 카카오를 기다리지 않고 OAUTH_COMMUNICATION_FAILED
+// 4xx (잘못된 인가 코드 등) 는 카카오 장애가 아니므로 실패 횟수에 넣지 않음
+@Slf4j
+@Component
+public class KakaoApiGuard {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openUntil; // System.nanoTime() 기준, 0 이면 닫힘
+
+    public KakaoApiGuard(
+            @Value("${auth.kakao.http.max-concurrency:32}") int maxConcurrency,
+            @Value("${auth.kakao.http.acquire-timeout:500ms}") Duration acquireTimeout,
+            @Value("${auth.kakao.breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${auth.kakao.breaker.open-duration:10s}") Duration openDuration
+    ) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeout = acquireTimeout;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    public <T> T call(String name, Supplier<T> request) {
+        long until = openUntil;
+        if (until != 0 && System.nanoTime() - until < 0) {
+            throw new AppException(ErrorCode.OAUTH_COMMUNICATION_FAILED);
+        }
+        if (!tryAcquire()) {
+            log.warn("[카카오 API] 동시 호출 한도 초과: {}", name);
+            throw new AppException(ErrorCode.OAUTH_COMMUNICATION_FAILED);
+        }
+        try {
+            T result = request.get();
+            consecutiveFailures.set(0);
+            openUntil = 0;
+            return result;
+        } catch (HttpClientErrorException e) {
+            log.warn("[카카오 API] {} 요청 거부: {}", name, e.getStatusCode());
+            throw new AppException(ErrorCode.OAUTH_COMMUNICATION_FAILED);
+        } catch (RuntimeException e) {
+            // 차단 시간이 지난 뒤 첫 호출이 실패하면 (실패 횟수가 이미 threshold 이상) 바로 다시 차단
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                openUntil = System.nanoTime() + openNanos;
+                log.error("[카카오 API] 연속 {}회 실패, {}ms 동안 차단", consecutiveFailures.get(), openNanos / 1_000_000);
+            }
+            log.error("[카카오 API] {} 통신 실패", name, e);
+            throw new AppException(ErrorCode.OAUTH_COMMUNICATION_FAILED);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public boolean isOpen() {
+        long until = openUntil;
+        return until != 0 && System.nanoTime() - until < 0;
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+// long[] 에 비트를 packing 해서 다루는 유틸 (bit i -> words[i >>> 6] 의 i & 63 번째 비트)
+public final class BitMasks {
+
+    private static final long EVEN_BITS = 0x5555555555555555L;
+
+    private BitMasks() {
+    }
+
+    public static long[] create(int nbits) {
+        return new long[(nbits + 63) >>> 6];
+    }
+
+    public static boolean get(long[] words, int i) {
+        return (words[i >>> 6] & (1L << i)) != 0;
+    }
+
+    public static void set(long[] words, int i) {
+        words[i >>> 6] |= 1L << i;
+    }
+
+    public static void clear(long[] words, int i) {
+        words[i >>> 6] &= ~(1L << i);
+    }
+
+    // [from, to) 구간을 1로 설정
+    public static void setRange(long[] words, int from, int to) {
+        if (from >= to) return;
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            words[first] |= firstMask & lastMask;
+            return;
+        }
+        words[first] |= firstMask;
+        for (int i = first + 1; i < last; i++) words[i] = -1L;
+        words[last] |= lastMask;
+    }
+
+    // [from, to) 에서 첫 번째 1의 위치, 없으면 -1
+    public static int nextSetBit(long[] words, int from, int to) {
+        if (from >= to) return -1;
+        int wi = from >>> 6;
+        long word = words[wi] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int idx = (wi << 6) + Long.numberOfTrailingZeros(word);
+                return idx < to ? idx : -1;
+            }
+            if (++wi >= words.length || (wi << 6) >= to) return -1;
+            word = words[wi];
+        }
+    }
+
+    // [from, to) 에서 첫 번째 0의 위치, 없으면 to
+    public static int nextClearBit(long[] words, int from, int to) {
+        if (from >= to) return to;
+        int wi = from >>> 6;
+        long word = ~words[wi] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return Math.min((wi << 6) + Long.numberOfTrailingZeros(word), to);
+            }
+            if (++wi >= words.length || (wi << 6) >= to) return to;
+            word = ~words[wi];
+        }
+    }
+
+    public static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) count += Long.bitCount(word);
+        return count;
+    }
+
+    // words 가 mask 의 비트를 모두 포함하는지
+    public static boolean containsAll(long[] words, long[] mask) {
+        for (int i = 0; i < mask.length; i++) {
+            if ((words[i] & mask[i]) != mask[i]) return false;
+        }
+        return true;
+    }
+
+    // 결과의 bit i = words 의 bit i-1
+    public static long[] shiftUp(long[] words) {
+        long[] result = new long[words.length];
+        long carry = 0;
+        for (int i = 0; i < words.length; i++) {
+            result[i] = (words[i] << 1) | carry;
+            carry = words[i] >>> 63;
+        }
+        return result;
+    }
+
+    // 결과의 bit i = words 의 bit i+1
+    public static long[] shiftDown(long[] words) {
+        long[] result = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            long carry = i + 1 < words.length ? words[i + 1] << 63 : 0;
+            result[i] = (words[i] >>> 1) | carry;
+        }
+        return result;
+    }
+
+    // 결과의 bit s = words 의 bit 2s & bit 2s+1 (30분 두 칸 -> 1시간 한 칸)
+    public static long[] compressPairs(long[] words, int nbits) {
+        long[] result = create(nbits);
+        for (int i = 0; i < words.length; i++) {
+            long x = words[i] & (words[i] >>> 1) & EVEN_BITS;
+            x = (x | (x >>> 1)) & 0x3333333333333333L;
+            x = (x | (x >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+            x = (x | (x >>> 4)) & 0x00FF00FF00FF00FFL;
+            x = (x | (x >>> 8)) & 0x0000FFFF0000FFFFL;
+            x = (x | (x >>> 16)) & 0x00000000FFFFFFFFL;
+            int target = i >>> 1;
+            if (target < result.length) result[target] |= x << ((i & 1) << 5);
+        }
+        int tail = nbits & 63;
+        if (tail != 0) result[result.length - 1] &= -1L >>> -tail;
+        return result;
+    }
+
+    // '0'/'1' 문자열 -> 비트 (길이가 모자라면 0으로 취급)
+    public static long[] fromBitString(String bits, int nbits) {
+        long[] words = create(nbits);
+        int limit = Math.min(bits.length(), nbits);
+        for (int i = 0; i < limit; i++) {
+            if (bits.charAt(i) == '1') set(words, i);
+        }
+        return words;
+    }
+
+    public static String toBitString(long[] words, int nbits) {
+        char[] chars = new char[nbits];
+        for (int i = 0; i < nbits; i++) chars[i] = get(words, i) ? '1' : '0';
+        return new String(chars);
+    }
+}
@@ -0,0 +1,99 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 배정 과정 기록 (explain 요청일 때만 생성). 이벤트 하나를 int 4개(type, slot, 참가자, value)로 보관
+// 요청하지 않은 경우 optimizer 에는 null 이 넘어가므로 hot loop 에서 하는 일은 null 체크뿐
+public final class DecisionTrace {
+
+    public enum Type {
+        PARTICIPANT,     // 입력 참가자 (value: 할당기회)
+        SEGMENT,         // 1차 배정 대상 세그먼트 (slot: 시작, value: 길이)
+        SEGMENT_ASSIGN,  // 1차 배정 (value: 누적 배정 수)
+        SLOT_FULL,       // 1차 배정 중 인원 가득 (skip)
+        QUOTA_REACHED,   // maxQuota 도달로 1차 배정 종료 (value: 누적 배정 수)
+        FILL_ASSIGN,     // 2차 배정 (value: 후보 수)
+        NO_CANDIDATE,    // 2차 배정 후보 없음
+        SUMMARY          // 최종 배정 수 (value: 배정 수)
+    }
+
+    public static final int DEFAULT_MAX_EVENTS = 100_000;
+
+    private static final int FIELDS = 4;
+    private static final Type[] TYPES = Type.values();
+
+    private final int maxEvents;
+    private final Map<String, Integer> nameIds = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private int[] data = new int[FIELDS * 64];
+    private int size;
+    private boolean truncated;
+
+    public DecisionTrace() {
+        this(DEFAULT_MAX_EVENTS);
+    }
+
+    public DecisionTrace(int maxEvents) {
+        this.maxEvents = maxEvents;
+    }
+
+    // 참가자 이름 -> 이벤트에 저장할 id
+    public int nameId(String name) {
+        return nameIds.computeIfAbsent(name, n -> {
+            names.add(n);
+            return names.size() - 1;
+        });
+    }
+
+    // slot / participant 가 없는 이벤트는 -1
+    public void record(Type type, int slot, int participant, int value) {
+        if (size == maxEvents) {
+            truncated = true;
+            return;
+        }
+        int offset = size * FIELDS;
+        if (offset + FIELDS > data.length) data = Arrays.copyOf(data, data.length * 2);
+        data[offset] = type.ordinal();
+        data[offset + 1] = slot;
+        data[offset + 2] = participant;
+        data[offset + 3] = value;
+        size++;
+    }
+
+    // 배정 과정을 기록하지 않는 방식(최소비용유량, 포트폴리오)은 입력과 최종 배정 수만 기록
+    public void recordSummary(List<Participant> participants, Roster roster) {
+        for (Participant p : participants) record(Type.PARTICIPANT, -1, nameId(p.name()), p.possibleCount());
+        for (int id = 0; id < participants.size(); id++) {
+            record(Type.SUMMARY, -1, nameId(participants.get(id).name()), roster.assignedCount(id));
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean truncated() {
+        return truncated;
+    }
+
+    public List<Event> events() {
+        List<Event> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int offset = i * FIELDS;
+            int participant = data[offset + 2];
+            events.add(new Event(
+                    TYPES[data[offset]],
+                    data[offset + 1],
+                    participant >= 0 ? names.get(participant) : null,
+                    data[offset + 3]
+            ));
+        }
+        return events;
+    }
+
+    public record Event(Type type, int slot, String participant, int value) {}
+}
@@ -0,0 +1,225 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+import java.util.Arrays;
+
+// 최소비용 최대유량 그래프 (인접 리스트를 primitive 배열로 보관, 호출마다 새로 만듦)
+// 노드 번호는 위상 순서(정방향 간선은 항상 작은 번호 -> 큰 번호)여야 한다. 음수 비용은 초기 포텐셜로 처리
+final class FlowNetwork {
+
+    private static final long INF = Long.MAX_VALUE;
+
+    private final int nodeCount;
+    private int edgeCount;
+
+    private final int[] head;
+    private final long[] dual;
+    private final long[] dist;
+    private final boolean[] visited;
+    private final int[] iter;
+    private final boolean[] dead;
+    private final boolean[] onPath;
+    private final int[] pathNode;
+    private final int[] pathEdge;
+
+    private int[] next = new int[64];
+    private int[] to = new int[64];
+    private int[] cap = new int[64];
+    private long[] cost = new long[64];
+
+    private long[] heapKey = new long[16];
+    private int[] heapNode = new int[16];
+    private int heapSize;
+
+    private long totalCost;
+
+    FlowNetwork(int nodes) {
+        nodeCount = nodes;
+        head = new int[nodes];
+        dual = new long[nodes];
+        dist = new long[nodes];
+        visited = new boolean[nodes];
+        iter = new int[nodes];
+        dead = new boolean[nodes];
+        onPath = new boolean[nodes];
+        pathNode = new int[nodes + 1];
+        pathEdge = new int[nodes + 1];
+        Arrays.fill(head, -1);
+    }
+
+    // 정방향 간선 번호 반환 (역방향은 번호 ^ 1)
+    int addEdge(int from, int toNode, int capacity, long edgeCost) {
+        ensureEdgeCapacity(edgeCount + 2);
+        int e = edgeCount;
+        to[e] = toNode;
+        cap[e] = capacity;
+        cost[e] = edgeCost;
+        next[e] = head[from];
+        head[from] = e;
+        to[e + 1] = from;
+        cap[e + 1] = 0;
+        cost[e + 1] = -edgeCost;
+        next[e + 1] = head[toNode];
+        head[toNode] = e + 1;
+        edgeCount += 2;
+        return e;
+    }
+
+    int flowOn(int edge) {
+        return cap[edge ^ 1];
+    }
+
+    long totalCost() {
+        return totalCost;
+    }
+
+    // 증가 경로가 없을 때까지 최단(비용) 경로로 흘려보냄
+    // Dijkstra 한 번에 경로 하나가 아니라, 포텐셜 갱신 후 보정 비용 0 인 간선만으로 막힐 때까지 흘림 (primal-dual)
+    // 같은 비용의 최단 경로가 많은 큰 격자(30분/15분 slot)에서 Dijkstra 횟수가 크게 줄어듦
+    int minCostMaxFlow(int source, int sink) {
+        initDual(source);
+        int flow = 0;
+        totalCost = 0;
+        while (shortestPath(source, sink)) {
+            long sinkDist = dist[sink];
+            for (int v = 0; v < nodeCount; v++) {
+                if (visited[v]) dual[v] -= sinkDist - dist[v];
+            }
+            flow += augmentAdmissible(source, sink);
+        }
+        return flow;
+    }
+
+    // 보정 비용 0 인 잔여 간선으로만 DFS (current-arc, 막힌 노드는 다시 보지 않음)
+    private int augmentAdmissible(int source, int sink) {
+        System.arraycopy(head, 0, iter, 0, nodeCount);
+        Arrays.fill(dead, false);
+        int flow = 0;
+        while (true) {
+            int depth = 0;
+            pathNode[0] = source;
+            onPath[source] = true;
+            int v = source;
+            while (v != sink) {
+                int e = iter[v];
+                while (e != -1 && !isAdmissible(v, e)) e = next[e];
+                iter[v] = e;
+                if (e == -1) {
+                    dead[v] = true;
+                    onPath[v] = false;
+                    if (depth == 0) return flow;
+                    v = pathNode[--depth];
+                    iter[v] = next[iter[v]];
+                    continue;
+                }
+                pathEdge[depth] = e;
+                v = to[e];
+                pathNode[++depth] = v;
+                onPath[v] = true;
+            }
+
+            int pushed = Integer.MAX_VALUE;
+            for (int i = 0; i < depth; i++) pushed = Math.min(pushed, cap[pathEdge[i]]);
+            for (int i = 0; i < depth; i++) {
+                int e = pathEdge[i];
+                cap[e] -= pushed;
+                cap[e ^ 1] += pushed;
+                totalCost += (long) pushed * cost[e];
+            }
+            for (int i = 0; i <= depth; i++) onPath[pathNode[i]] = false;
+            flow += pushed;
+        }
+    }
+
+    private boolean isAdmissible(int from, int e) {
+        if (cap[e] == 0) return false;
+        int w = to[e];
+        return !dead[w] && !onPath[w] && cost[e] + dual[from] - dual[w] == 0;
+    }
+
+    // 위상 순서대로 완화해서 음수 간선이 있어도 초기 포텐셜을 구함
+    private void initDual(int source) {
+        Arrays.fill(dual, INF);
+        dual[source] = 0;
+        for (int u = source; u < nodeCount; u++) {
+            if (dual[u] == INF) continue;
+            for (int e = head[u]; e != -1; e = next[e]) {
+                if ((e & 1) != 0 || cap[e] == 0) continue;
+                long candidate = dual[u] + cost[e];
+                if (candidate < dual[to[e]]) dual[to[e]] = candidate;
+            }
+        }
+    }
+
+    // 포텐셜로 보정한 비용(항상 0 이상)으로 Dijkstra, sink 에 도달하면 중단
+    private boolean shortestPath(int source, int sink) {
+        Arrays.fill(dist, INF);
+        Arrays.fill(visited, false);
+        heapSize = 0;
+        dist[source] = 0;
+        push(0, source);
+        while (heapSize > 0) {
+            int v = heapNode[0];
+            pop();
+            if (visited[v]) continue;
+            visited[v] = true;
+            if (v == sink) break;
+            for (int e = head[v]; e != -1; e = next[e]) {
+                if (cap[e] == 0) continue;
+                int w = to[e];
+                if (visited[w]) continue;
+                long candidate = dist[v] + cost[e] - dual[w] + dual[v];
+                if (candidate < dist[w]) {
+                    dist[w] = candidate;
+                    push(candidate, w);
+                }
+            }
+        }
+        return visited[sink];
+    }
+
+    private void push(long key, int node) {
+        if (heapSize == heapKey.length) {
+            int size = heapSize * 2;
+            heapKey = Arrays.copyOf(heapKey, size);
+            heapNode = Arrays.copyOf(heapNode, size);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapKey[parent] <= key) break;
+            heapKey[i] = heapKey[parent];
+            heapNode[i] = heapNode[parent];
+            i = parent;
+        }
+        heapKey[i] = key;
+        heapNode[i] = node;
+    }
+
+    private void pop() {
+        long key = heapKey[--heapSize];
+        int node = heapNode[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapKey[child + 1] < heapKey[child]) child++;
+            if (heapKey[child] >= key) break;
+            heapKey[i] = heapKey[child];
+            heapNode[i] = heapNode[child];
+            i = child;
+        }
+        if (heapSize > 0) {
+            heapKey[i] = key;
+            heapNode[i] = node;
+        }
+    }
+
+    private void ensureEdgeCapacity(int required) {
+        if (to.length >= required) return;
+        int size = Math.max(required, to.length * 2);
+        next = Arrays.copyOf(next, size);
+        to = Arrays.copyOf(to, size);
+        cap = Arrays.copyOf(cap, size);
+        cost = Arrays.copyOf(cost, size);
+    }
+}
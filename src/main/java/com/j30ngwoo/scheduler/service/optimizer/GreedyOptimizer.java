@@ -0,0 +1,343 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+// 2단계 그리디 배정: 1차 - 긴 세그먼트 우선 배정, 2차 - quota 덜 받은 사람 위주로 빈 자리 채우기
+@Slf4j
+@RequiredArgsConstructor
+public class GreedyOptimizer {
+
+    // 2차 배정 우선순위 key: [배정 수][수업 없는 날 1bit][비연속 1bit][tieBreakRank 32bit] (작을수록 우선)
+    private static final int LECTURE_SHIFT = 33;
+    private static final int CONTIGUITY_SHIFT = 32;
+    private static final int ASSIGNED_SHIFT = 34;
+    private static final long RANK_MASK = 0xFFFFFFFFL;
+
+    private final SlotGrid grid;
+    private final int participantsPerSlot;
+    private final boolean isLectureDayWorkPriority;
+
+    public Roster optimize(List<Participant> input) {
+        return optimize(input, null, null, null, null);
+    }
+
+    // random 이 주어지면 참가자 순서 / 세그먼트 순서 / 동점 처리를 흔들어서 다른 해를 탐색
+    public Roster optimize(List<Participant> input, Random random) {
+        return optimize(input, random, null, null, null);
+    }
+
+    // 참가자 / slot 하나를 배정할 때마다 stop 을 확인하고, true 면 중단하고 null 반환
+    public Roster optimize(List<Participant> input, Random random, BooleanSupplier stop) {
+        return optimize(input, random, null, null, stop);
+    }
+
+    // trace 가 주어지면 배정 과정을 기록
+    public Roster optimize(List<Participant> input, DecisionTrace trace) {
+        return optimize(input, null, trace, null, null);
+    }
+
+    // stats 에 단계별 소요 시간 / 후보 수를 누적
+    public Roster optimize(List<Participant> input, OptimizerStats stats) {
+        return optimize(input, null, null, stats, null);
+    }
+
+    private Roster optimize(
+            List<Participant> input,
+            Random random,
+            DecisionTrace trace,
+            OptimizerStats stats,
+            BooleanSupplier stop
+    ) {
+        long start = stats != null ? System.nanoTime() : 0;
+        Run run = new Run(input, random, trace);
+        long setupEnd = stats != null ? System.nanoTime() : 0;
+
+        // 1차 배정
+        for (int id : run.order) {
+            if (stop != null && stop.getAsBoolean()) return null;
+            run.assignSegments(id);
+        }
+        long pass1End = stats != null ? System.nanoTime() : 0;
+
+        // 2차: quota 못 채운 참가자 위주로 남은 slot 채우기
+        for (int slotIdx = 0; slotIdx < grid.totalSlots(); slotIdx++) {
+            if (stop != null && stop.getAsBoolean()) return null;
+            run.fillSlot(slotIdx);
+        }
+
+        if (stats != null) {
+            stats.record(setupEnd - start, pass1End - setupEnd, System.nanoTime() - pass1End, run.candidatesEvaluated);
+        }
+        run.traceSummary();
+        return run.roster;
+    }
+
+    // 이전 배정 결과에서 변경된 참가자만 다시 배정
+    // 변경/삭제된 참가자의 배정을 빼고, 변경된 참가자는 1차 배정 규칙으로 다시 넣은 뒤 비워진 slot 만 2차 규칙으로 채움
+    public Roster repair(List<Participant> input, Roster previous, Set<String> changed) {
+        return repair(input, previous, changed, null);
+    }
+
+    public Roster repair(List<Participant> input, Roster previous, Set<String> changed, OptimizerStats stats) {
+        long start = stats != null ? System.nanoTime() : 0;
+        Run run = new Run(input, null, null);
+        Map<String, Integer> index = new HashMap<>();
+        for (int id = 0; id < input.size(); id++) index.put(input.get(id).name(), id);
+
+        // 이전 결과의 id -> 현재 id (변경/삭제된 참가자는 -1)
+        int[] carried = new int[previous.participantCount()];
+        for (int prevId = 0; prevId < carried.length; prevId++) {
+            String name = previous.name(prevId);
+            Integer id = index.get(name);
+            carried[prevId] = id == null || changed.contains(name) ? -1 : id;
+        }
+
+        long[] freedSlots = BitMasks.create(grid.totalSlots());
+        for (int slotIdx = 0; slotIdx < grid.totalSlots(); slotIdx++) {
+            for (int i = 0; i < previous.count(slotIdx); i++) {
+                int id = carried[previous.participant(slotIdx, i)];
+                if (id < 0) {
+                    BitMasks.set(freedSlots, slotIdx);
+                    continue;
+                }
+                run.assign(slotIdx, id);
+            }
+        }
+
+        long setupEnd = stats != null ? System.nanoTime() : 0;
+
+        for (int id : run.order) {
+            if (changed.contains(input.get(id).name())) run.assignSegments(id);
+        }
+        long pass1End = stats != null ? System.nanoTime() : 0;
+
+        for (int slotIdx = BitMasks.nextSetBit(freedSlots, 0, grid.totalSlots()); slotIdx >= 0;
+             slotIdx = BitMasks.nextSetBit(freedSlots, slotIdx + 1, grid.totalSlots())) {
+            run.fillSlot(slotIdx);
+        }
+        if (stats != null) {
+            stats.record(setupEnd - start, pass1End - setupEnd, System.nanoTime() - pass1End, run.candidatesEvaluated);
+        }
+
+        log.debug("[부분 재배정] 변경 참가자 {}명, 비워진 slot {}개", changed.size(), BitMasks.cardinality(freedSlots));
+        return run.roster;
+    }
+
+    // 한 번의 배정 과정에서 쓰는 상태. 참가자는 입력 리스트 순서의 id 로 다룸
+    private class Run {
+        final List<Participant> participants;
+        final int[] order;                         // 1차 배정 순서 (할당 기회 오름차순)
+        final Random random;
+        final DecisionTrace trace;                 // null 이면 기록 안 함
+        final int[] traceIds;
+        final int[] tieBreakRanks;                 // 2차 배정 마지막 우선순위 (기본: 이름순)
+        final int[] rankToParticipant;
+        final Roster roster;                       // 배정 현황 (slot별 인원, 참가자별 배정 slot)
+        final long[] openSlots;                    // 자리가 남은 slot
+        final int[] eligibleStart;                 // slot -> 가능한 참가자 역색인 (eligible[eligibleStart[s]..eligibleStart[s+1]))
+        final int[] eligible;
+        final long[] candidateKeys;                // 2차 배정 후보 heap 버퍼
+        long candidatesEvaluated;                  // 2차 배정에서 우선순위를 계산한 후보 수
+
+        Run(List<Participant> input, Random random, DecisionTrace trace) {
+            this.participants = input;
+            this.random = random;
+            this.trace = trace;
+            int n = input.size();
+            int totalSlots = grid.totalSlots();
+
+            // 할당 기회가 적은 사람부터 오름차순 정렬
+            Integer[] sorted = new Integer[n];
+            for (int id = 0; id < n; id++) sorted[id] = id;
+            if (random == null) {
+                Arrays.sort(sorted, Comparator.comparingInt(id -> input.get(id).possibleCount()));
+            } else {
+                int jitter = Math.max(1, totalSlots / 10);
+                int[] keys = new int[n];
+                for (int id = 0; id < n; id++) keys[id] = input.get(id).possibleCount() + random.nextInt(jitter + 1);
+                Collections.shuffle(Arrays.asList(sorted), random);
+                Arrays.sort(sorted, Comparator.comparingInt(id -> keys[id]));
+            }
+            order = new int[n];
+            for (int p = 0; p < n; p++) order[p] = sorted[p];
+
+            Integer[] ranked = sorted.clone();
+            if (random == null) {
+                Arrays.sort(ranked, Comparator.comparing(id -> input.get(id).name()));
+            } else {
+                Collections.shuffle(Arrays.asList(ranked), random);
+            }
+            tieBreakRanks = new int[n];
+            rankToParticipant = new int[n];
+            for (int rank = 0; rank < n; rank++) {
+                tieBreakRanks[ranked[rank]] = rank;
+                rankToParticipant[rank] = ranked[rank];
+            }
+
+            eligibleStart = new int[totalSlots + 1];
+            for (Participant pi : input) {
+                long[] mask = pi.slotMask();
+                for (int s = BitMasks.nextSetBit(mask, 0, totalSlots); s >= 0; s = BitMasks.nextSetBit(mask, s + 1, totalSlots)) {
+                    eligibleStart[s + 1]++;
+                }
+            }
+            int maxEligible = 0;
+            for (int s = 0; s < totalSlots; s++) {
+                maxEligible = Math.max(maxEligible, eligibleStart[s + 1]);
+                eligibleStart[s + 1] += eligibleStart[s];
+            }
+            eligible = new int[eligibleStart[totalSlots]];
+            int[] fill = Arrays.copyOf(eligibleStart, totalSlots);
+            for (int id = 0; id < n; id++) {
+                long[] mask = input.get(id).slotMask();
+                for (int s = BitMasks.nextSetBit(mask, 0, totalSlots); s >= 0; s = BitMasks.nextSetBit(mask, s + 1, totalSlots)) {
+                    eligible[fill[s]++] = id;
+                }
+            }
+            candidateKeys = new long[maxEligible];
+
+            roster = new Roster(input, totalSlots, participantsPerSlot);
+            openSlots = BitMasks.create(totalSlots);
+            if (participantsPerSlot > 0) BitMasks.setRange(openSlots, 0, totalSlots);
+            traceIds = trace != null ? new int[n] : null;
+            if (trace != null) {
+                for (int id : order) {
+                    Participant pi = input.get(id);
+                    traceIds[id] = trace.nameId(pi.name());
+                    trace.record(DecisionTrace.Type.PARTICIPANT, -1, traceIds[id], pi.possibleCount());
+                }
+            }
+        }
+
+        void assign(int slotIdx, int id) {
+            roster.add(slotIdx, id);
+            if (roster.count(slotIdx) >= participantsPerSlot) BitMasks.clear(openSlots, slotIdx);
+        }
+
+        // 1차: 가능 구간 중 긴 세그먼트(수업 있는 날 옵션 우선)부터 maxQuota 까지 배정
+        void assignSegments(int id) {
+            Participant pi = participants.get(id);
+            List<Segment> segments = extractSegments(pi.slotMask(), openSlots);
+            if (random != null) Collections.shuffle(segments, random);
+            segments.sort((s1, s2) -> {
+                if (isLectureDayWorkPriority) {
+                    boolean s1IsLectureDay = pi.isLectureDay(grid.dayOf(s1.start));
+                    boolean s2IsLectureDay = pi.isLectureDay(grid.dayOf(s2.start));
+                    if (s1IsLectureDay && !s2IsLectureDay) return -1;
+                    if (!s1IsLectureDay && s2IsLectureDay) return 1;
+                }
+                return Integer.compare(s2.length, s1.length);
+            });
+            for (Segment seg : segments) {
+                if (trace != null) trace.record(DecisionTrace.Type.SEGMENT, seg.start, traceIds[id], seg.length);
+                for (int i = 0; i < seg.length; i++) {
+                    int slotIdx = seg.start + i;
+                    if (roster.assignedCount(id) >= pi.maxQuota()) {
+                        if (trace != null) trace.record(DecisionTrace.Type.QUOTA_REACHED, slotIdx, traceIds[id], roster.assignedCount(id));
+                        break;
+                    }
+                    if (!BitMasks.get(openSlots, slotIdx)) {
+                        if (trace != null) trace.record(DecisionTrace.Type.SLOT_FULL, slotIdx, traceIds[id], 0);
+                        continue;
+                    }
+                    assign(slotIdx, id);
+                    if (trace != null) trace.record(DecisionTrace.Type.SEGMENT_ASSIGN, slotIdx, traceIds[id], roster.assignedCount(id));
+                }
+                if (roster.assignedCount(id) >= pi.maxQuota()) break;
+            }
+        }
+
+        // 2차: slot 이 찰 때까지 quota 적게 받은 후보부터 배정
+        // slot 하나를 채우는 동안 후보 key 는 변하지 않음 (뽑힌 사람은 이 slot 후보에서 빠지고, 앞뒤 slot 배정도 그대로)
+        // -> 후보 key 를 한 번 계산해서 heap 으로 만든 뒤 빈 자리 수만큼 꺼냄
+        void fillSlot(int slotIdx) {
+            if (!BitMasks.get(openSlots, slotIdx)) return;
+            int day = grid.dayOf(slotIdx);
+
+            // quota 미달 + 배정 가능 + 아직 이 slot에 안 배정된 인원만 후보
+            int size = 0;
+            for (int i = eligibleStart[slotIdx]; i < eligibleStart[slotIdx + 1]; i++) {
+                int id = eligible[i];
+                if (roster.assignedCount(id) >= participants.get(id).maxQuota()) continue;
+                if (roster.isAssigned(id, slotIdx)) continue;
+                candidateKeys[size++] = priorityKey(id, slotIdx, day);
+            }
+            candidatesEvaluated += size;
+            for (int i = size / 2 - 1; i >= 0; i--) siftDown(candidateKeys, i, size);
+
+            while (BitMasks.get(openSlots, slotIdx)) {
+                if (size == 0) {
+                    if (trace != null) trace.record(DecisionTrace.Type.NO_CANDIDATE, slotIdx, -1, 0);
+                    break;
+                }
+                int picked = rankToParticipant[(int) (candidateKeys[0] & RANK_MASK)];
+                if (trace != null) trace.record(DecisionTrace.Type.FILL_ASSIGN, slotIdx, traceIds[picked], size);
+                candidateKeys[0] = candidateKeys[--size];
+                siftDown(candidateKeys, 0, size);
+                assign(slotIdx, picked);
+            }
+        }
+
+        // 우선순위: 1. quota 적게 받은 사람 2. 수업 있는 날 옵션 3. 연속성(직전/직후 slot) 4. 이름순(tieBreakRanks)
+        long priorityKey(int id, int slotIdx, int day) {
+            long key = (long) roster.assignedCount(id) << ASSIGNED_SHIFT;
+            if (isLectureDayWorkPriority && !participants.get(id).isLectureDay(day)) key |= 1L << LECTURE_SHIFT;
+            boolean contiguous = (slotIdx > 0 && roster.isAssigned(id, slotIdx - 1))
+                    || (slotIdx + 1 < grid.totalSlots() && roster.isAssigned(id, slotIdx + 1));
+            if (!contiguous) key |= 1L << CONTIGUITY_SHIFT;
+            return key | tieBreakRanks[id];
+        }
+
+        void traceSummary() {
+            if (trace == null) return;
+            for (int id : order) {
+                trace.record(DecisionTrace.Type.SUMMARY, -1, traceIds[id], roster.assignedCount(id));
+            }
+        }
+    }
+
+    // 가능 + 자리 남은 slot 의 연속 구간을 요일별로 추출
+    private List<Segment> extractSegments(long[] slotMask, long[] openSlots) {
+        long[] available = new long[slotMask.length];
+        for (int i = 0; i < slotMask.length; i++) available[i] = slotMask[i] & openSlots[i];
+
+        List<Segment> segs = new ArrayList<>();
+        for (int day = 0; day < grid.days(); day++) {
+            int dayEnd = grid.dayStart(day) + grid.slotsPerDay();
+            int start = BitMasks.nextSetBit(available, grid.dayStart(day), dayEnd);
+            while (start >= 0) {
+                int end = BitMasks.nextClearBit(available, start, dayEnd);
+                segs.add(new Segment(start, end - start));
+                start = BitMasks.nextSetBit(available, end, dayEnd);
+            }
+        }
+        return segs;
+    }
+
+    private static void siftDown(long[] heap, int i, int size) {
+        long key = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (heap[child] >= key) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+
+    private record Segment(int start, int length) {}
+}
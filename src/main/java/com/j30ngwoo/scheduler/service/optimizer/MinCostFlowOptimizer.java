@@ -0,0 +1,102 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// 참가자 -> 가능 slot -> sink 유량 그래프로 배정
+// 1. 채울 수 있는 자리 수 최대화 2. minQuota 충족 3. 배정 시간 균등(볼록 비용) 4. 수업 있는 날 / 연속성 선호
+@Slf4j
+@RequiredArgsConstructor
+public class MinCostFlowOptimizer {
+
+    private static final long MIN_QUOTA_BONUS = 1_000_000L;
+    private static final long FAIRNESS_STEP = 1_000L;
+    private static final long LECTURE_DAY_PENALTY = 100L;
+    private static final long CONTIGUITY_STEP = 10L;
+
+    private final SlotGrid grid;
+    private final int participantsPerSlot;
+    private final boolean isLectureDayWorkPriority;
+
+    public Roster optimize(List<Participant> input) {
+        int totalSlots = grid.totalSlots();
+        Roster roster = new Roster(input, totalSlots, participantsPerSlot);
+        if (participantsPerSlot <= 0) return roster;
+
+        // 그리디와 같은 순서(할당 기회 오름차순)로 slot 내 배정 순서를 맞춤 (노드 번호 -> 입력 id)
+        int participantCount = input.size();
+        Integer[] sorted = new Integer[participantCount];
+        for (int id = 0; id < participantCount; id++) sorted[id] = id;
+        Arrays.sort(sorted, Comparator.comparingInt(id -> input.get(id).possibleCount()));
+        List<Participant> participants = new ArrayList<>(participantCount);
+        for (int id : sorted) participants.add(input.get(id));
+
+        // 노드: source(0) < 참가자 < slot < sink
+        int source = 0;
+        int slotBase = 1 + participantCount;
+        int sink = slotBase + totalSlots;
+        // 그래프 버퍼는 호출마다 새로 만듦 (스레드별로 보관하면 가장 큰 스케줄 크기로 계속 남음)
+        FlowNetwork network = new FlowNetwork(sink + 1);
+
+        for (int p = 0; p < participantCount; p++) {
+            Participant pi = participants.get(p);
+            int capacity = Math.min(pi.maxQuota(), pi.possibleCount());
+            for (int k = 1; k <= capacity; k++) {
+                long cost = k * FAIRNESS_STEP - (k <= pi.minQuota() ? MIN_QUOTA_BONUS : 0);
+                network.addEdge(source, 1 + p, 1, cost);
+            }
+        }
+
+        int[] pairEdges = new int[16];
+        int[] pairParticipants = new int[16];
+        int[] pairSlots = new int[16];
+        int pairCount = 0;
+        boolean[] reachable = new boolean[totalSlots];
+        for (int p = 0; p < participantCount; p++) {
+            Participant pi = participants.get(p);
+            if (Math.min(pi.maxQuota(), pi.possibleCount()) <= 0) continue;
+            for (int slot = BitMasks.nextSetBit(pi.slotMask(), 0, totalSlots); slot >= 0;
+                 slot = BitMasks.nextSetBit(pi.slotMask(), slot + 1, totalSlots)) {
+                if (pairCount == pairEdges.length) {
+                    pairEdges = Arrays.copyOf(pairEdges, pairCount * 2);
+                    pairParticipants = Arrays.copyOf(pairParticipants, pairCount * 2);
+                    pairSlots = Arrays.copyOf(pairSlots, pairCount * 2);
+                }
+                pairEdges[pairCount] = network.addEdge(1 + p, slotBase + slot, 1, slotCost(pi, slot));
+                pairParticipants[pairCount] = p;
+                pairSlots[pairCount] = slot;
+                pairCount++;
+                reachable[slot] = true;
+            }
+        }
+        for (int slot = 0; slot < totalSlots; slot++) {
+            if (reachable[slot]) network.addEdge(slotBase + slot, sink, participantsPerSlot, 0);
+        }
+
+        int flow = network.minCostMaxFlow(source, sink);
+        log.debug("[최소비용유량] 참가자 {}명, slot {}개, 배정 {}건, 비용 {}", participantCount, totalSlots, flow, network.totalCost());
+
+        for (int i = 0; i < pairCount; i++) {
+            if (network.flowOn(pairEdges[i]) > 0) {
+                roster.add(pairSlots[i], sorted[pairParticipants[i]]);
+            }
+        }
+        return roster;
+    }
+
+    // 수업 없는 날 배정 시 패널티, 같은 날 앞뒤 slot 도 가능하면 비용 감소(연속 근무 유도)
+    private long slotCost(Participant pi, int slot) {
+        long cost = 0;
+        if (isLectureDayWorkPriority && !pi.isLectureDay(grid.dayOf(slot))) cost += LECTURE_DAY_PENALTY;
+        int indexInDay = grid.indexInDay(slot);
+        int missingNeighbors = 2;
+        if (indexInDay > 0 && pi.canWork(slot - 1)) missingNeighbors--;
+        if (indexInDay < grid.slotsPerDay() - 1 && pi.canWork(slot + 1)) missingNeighbors--;
+        return cost + missingNeighbors * CONTIGUITY_STEP;
+    }
+}
@@ -0,0 +1,7 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+public enum OptimizationMode {
+    GREEDY,         // 2단계 그리디 (기본값)
+    MIN_COST_FLOW,  // 최소비용 최대유량 (배정 수 최대화 후 비용 최소화)
+    PORTFOLIO       // 흔든 그리디 여러 개를 병렬 실행 후 가장 좋은 결과
+}
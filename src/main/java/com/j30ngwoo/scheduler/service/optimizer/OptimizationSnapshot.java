@@ -0,0 +1,52 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 스케줄별 마지막 배정 결과 (부분 재배정의 기준)
+public record OptimizationSnapshot(
+        Settings settings,
+        Map<String, Participant> participants,
+        Roster roster
+) {
+    // 이 값이 하나라도 달라지면 부분 재배정 불가 (전체 재계산)
+    public record Settings(
+            OptimizationMode mode,
+            boolean isLectureDayWorkPriority,
+            boolean applyTravelTimeBuffer,
+            int days,
+            int slotsPerDay,
+            int slotMinutes,
+            int participantsPerSlot,
+            int minQuota,
+            int maxQuota
+    ) {}
+
+    // roster 는 만든 뒤 바뀌지 않으므로 그대로 보관
+    public static OptimizationSnapshot of(Settings settings, List<Participant> participants, Roster roster) {
+        Map<String, Participant> byName = new HashMap<>();
+        for (Participant p : participants) byName.put(p.name(), p);
+        return new OptimizationSnapshot(
+                settings,
+                Map.copyOf(byName),
+                roster
+        );
+    }
+
+    // 추가 / 삭제 / 가능 시간이 바뀐 참가자 이름
+    public Set<String> changedParticipants(List<Participant> current) {
+        Set<String> changed = new HashSet<>();
+        Set<String> remaining = new HashSet<>(participants.keySet());
+        for (Participant p : current) {
+            Participant before = participants.get(p.name());
+            remaining.remove(p.name());
+            if (before == null || !Arrays.equals(before.slotMask(), p.slotMask())) changed.add(p.name());
+        }
+        changed.addAll(remaining);
+        return changed;
+    }
+}
@@ -0,0 +1,42 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+// 그리디 배정 한 번의 단계별 소요 시간과 2차 배정에서 평가한 후보 수 (지표 수집용)
+// 넘기지 않으면 optimizer 는 시간을 재지 않음
+public final class OptimizerStats {
+
+    private int runs;
+    private long setupNanos;
+    private long pass1Nanos;
+    private long pass2Nanos;
+    private long candidatesEvaluated;
+
+    // 기록된 배정 횟수 (직전 결과를 그대로 쓰면 0)
+    public int runs() {
+        return runs;
+    }
+
+    // 후보 역색인 / 이전 결과 반영 등 배정 전 준비
+    public long setupNanos() {
+        return setupNanos;
+    }
+
+    public long pass1Nanos() {
+        return pass1Nanos;
+    }
+
+    public long pass2Nanos() {
+        return pass2Nanos;
+    }
+
+    public long candidatesEvaluated() {
+        return candidatesEvaluated;
+    }
+
+    void record(long setupNanos, long pass1Nanos, long pass2Nanos, long candidatesEvaluated) {
+        this.runs++;
+        this.setupNanos += setupNanos;
+        this.pass1Nanos += pass1Nanos;
+        this.pass2Nanos += pass2Nanos;
+        this.candidatesEvaluated += candidatesEvaluated;
+    }
+}
@@ -0,0 +1,22 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+public record Participant(
+        String name,
+        long[] slotMask,    // slot별 가능여부
+        int lectureDays,    // 수업 있는 요일 비트
+        int possibleCount,  // 할당 기회
+        int minQuota,
+        int maxQuota
+) {
+    public static Participant of(SlotGrid grid, String name, long[] slotMask, int minQuota, int maxQuota) {
+        return new Participant(name, slotMask, grid.lectureDays(slotMask), BitMasks.cardinality(slotMask), minQuota, maxQuota);
+    }
+
+    public boolean canWork(int slot) {
+        return BitMasks.get(slotMask, slot);
+    }
+
+    public boolean isLectureDay(int day) {
+        return (lectureDays & (1 << day)) != 0;
+    }
+}
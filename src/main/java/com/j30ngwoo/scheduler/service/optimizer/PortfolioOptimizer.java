@@ -0,0 +1,85 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+// 흔든 그리디를 여러 번 병렬로 돌려서 RosterScore 가 가장 좋은 결과 선택 (점수가 같으면 실행 번호가 작은 쪽)
+// 기본 그리디 결과(0번)를 항상 후보에 넣으므로 그리디보다 나빠지지 않음
+// 시간 예산이 지나면 각 실행이 스스로 멈춤 (pool 을 계속 점유하지 않도록). 이때는 끝난 실행에 따라 결과가 달라지므로 complete = false
+@Slf4j
+@RequiredArgsConstructor
+public class PortfolioOptimizer {
+
+    private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    private final SlotGrid grid;
+    private final int participantsPerSlot;
+    private final boolean isLectureDayWorkPriority;
+    private final ForkJoinPool pool;
+    private final int runs;
+    private final Duration budget;
+
+    public Result optimize(List<Participant> participants) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        BooleanSupplier stop = () -> cancelled.get() || System.nanoTime() - deadline >= 0;
+
+        List<ForkJoinTask<Candidate>> tasks = new ArrayList<>(runs);
+        for (int i = 1; i < runs; i++) {
+            long seed = i * SEED_STEP;
+            tasks.add(pool.submit(() -> run(participants, new Random(seed), stop)));
+        }
+
+        Candidate best = run(participants, null, null);
+        int finished = 1;
+        try {
+            // 실행 번호 순서로 비교해서 점수가 같으면 앞 번호 유지
+            for (ForkJoinTask<Candidate> task : tasks) {
+                Candidate candidate;
+                try {
+                    candidate = task.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    log.warn("[포트폴리오] 실행 실패", e.getCause());
+                    continue;
+                }
+                if (candidate == null) continue;
+                finished++;
+                if (candidate.score.compareTo(best.score) > 0) best = candidate;
+            }
+        } catch (TimeoutException e) {
+            // 시간 예산 초과: 아래에서 남은 실행을 멈춤
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 시작한 실행은 stop 을 보고 멈추고, 시작 전이면 대기열에서 제거
+            cancelled.set(true);
+            for (ForkJoinTask<Candidate> task : tasks) task.cancel(false);
+        }
+        log.debug("[포트폴리오] {}/{}회 완료, 최고 점수 {}", finished, runs, best.score);
+        return new Result(best.roster, finished == runs);
+    }
+
+    // stop 으로 중단되면 null
+    private Candidate run(List<Participant> participants, Random random, BooleanSupplier stop) {
+        Roster roster = new GreedyOptimizer(grid, participantsPerSlot, isLectureDayWorkPriority)
+                .optimize(participants, random, stop);
+        return roster != null ? new Candidate(RosterScore.of(grid, participants, roster), roster) : null;
+    }
+
+    // complete: 모든 실행이 시간 안에 끝남 (같은 입력이면 항상 같은 결과)
+    public record Result(Roster roster, boolean complete) {}
+
+    private record Candidate(RosterScore score, Roster roster) {}
+}
@@ -0,0 +1,75 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+import java.util.List;
+
+// 배정 결과. 참가자는 입력 리스트 순서의 id(0..n-1)로 다루고 이름은 마지막에만 꺼냄
+// slot 별 배정은 고정 크기 행렬 (행 크기 = participantsPerSlot, 단 참가자 수보다 클 필요는 없음), 참가자별 배정 slot 은 비트마스크로 보관
+public final class Roster {
+
+    private final String[] names;
+    private final int totalSlots;
+    private final int seatsPerSlot;
+    private final int[] seats;          // slot * seatsPerSlot + i -> 참가자 id (배정 순서)
+    private final int[] slotCounts;
+    private final int[] assignedCounts;
+    private final long[][] assignedSlots;
+
+    Roster(List<Participant> participants, int totalSlots, int seatsPerSlot) {
+        int n = participants.size();
+        this.names = new String[n];
+        for (int id = 0; id < n; id++) names[id] = participants.get(id).name();
+        this.totalSlots = totalSlots;
+        // 한 slot 에는 서로 다른 참가자만 들어가므로 참가자 수를 넘는 자리는 쓰이지 않음
+        this.seatsPerSlot = Math.max(0, Math.min(seatsPerSlot, n));
+        this.seats = new int[totalSlots * this.seatsPerSlot];
+        this.slotCounts = new int[totalSlots];
+        this.assignedCounts = new int[n];
+        this.assignedSlots = new long[n][];
+        for (int id = 0; id < n; id++) assignedSlots[id] = BitMasks.create(totalSlots);
+    }
+
+    void add(int slot, int id) {
+        if (slotCounts[slot] >= seatsPerSlot) {
+            throw new IllegalStateException("slot " + slot + " is full");
+        }
+        seats[slot * seatsPerSlot + slotCounts[slot]++] = id;
+        assignedCounts[id]++;
+        BitMasks.set(assignedSlots[id], slot);
+    }
+
+    public int totalSlots() {
+        return totalSlots;
+    }
+
+    public int participantCount() {
+        return names.length;
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    // slot 에 배정된 인원 수
+    public int count(int slot) {
+        return slotCounts[slot];
+    }
+
+    // slot 에 i 번째로 배정된 참가자 id
+    public int participant(int slot, int i) {
+        return seats[slot * seatsPerSlot + i];
+    }
+
+    public int assignedCount(int id) {
+        return assignedCounts[id];
+    }
+
+    public boolean isAssigned(int id, int slot) {
+        return BitMasks.get(assignedSlots[id], slot);
+    }
+
+    public int filledSeats() {
+        int filled = 0;
+        for (int count : slotCounts) filled += count;
+        return filled;
+    }
+}
@@ -0,0 +1,41 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+import java.util.List;
+
+// 배정 결과 평가. 1. 채운 자리 수 2. minQuota 미달 합 3. 같은 날 연속 배정 수 4. 배정 시간 편차 순으로 비교
+public record RosterScore(
+        int filledSeats,
+        int quotaShortfall,
+        int contiguousPairs,
+        long loadSpread      // 배정 시간 제곱합 (작을수록 고르게 분배)
+) implements Comparable<RosterScore> {
+
+    // participants 는 roster 를 만든 입력 리스트 (index = 참가자 id)
+    public static RosterScore of(SlotGrid grid, List<Participant> participants, Roster roster) {
+        int contiguousPairs = 0;
+        for (int slot = 1; slot < roster.totalSlots(); slot++) {
+            if (grid.indexInDay(slot) == 0) continue;
+            for (int i = 0; i < roster.count(slot); i++) {
+                if (roster.isAssigned(roster.participant(slot, i), slot - 1)) contiguousPairs++;
+            }
+        }
+        int quotaShortfall = 0;
+        long loadSpread = 0;
+        for (int id = 0; id < participants.size(); id++) {
+            Participant p = participants.get(id);
+            int count = roster.assignedCount(id);
+            quotaShortfall += Math.max(0, Math.min(p.minQuota(), p.possibleCount()) - count);
+            loadSpread += (long) count * count;
+        }
+        return new RosterScore(roster.filledSeats(), quotaShortfall, contiguousPairs, loadSpread);
+    }
+
+    // 좋은 결과일수록 큼
+    @Override
+    public int compareTo(RosterScore other) {
+        if (filledSeats != other.filledSeats) return Integer.compare(filledSeats, other.filledSeats);
+        if (quotaShortfall != other.quotaShortfall) return Integer.compare(other.quotaShortfall, quotaShortfall);
+        if (contiguousPairs != other.contiguousPairs) return Integer.compare(contiguousPairs, other.contiguousPairs);
+        return Long.compare(other.loadSpread, loadSpread);
+    }
+}
@@ -0,0 +1,119 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+// 요일 x slot 격자. 요일별 마스크를 미리 만들어 두고 비트 연산으로 처리
+// 가용 시간 입력은 unit(1시간 slot 이면 30분, 30분/15분 slot 이면 slot 과 같은 길이) 단위 0/1 문자열
+public final class SlotGrid {
+
+    private final int days;
+    private final int slotsPerDay;
+    private final int totalSlots;
+    private final int unitsPerSlot;      // slot 하나를 이루는 입력 칸 수 (1 또는 2)
+    private final int bufferUnits;       // 이동시간 버퍼 칸 수 (30분)
+    private final long[][] dayMasks;     // slot 단위 요일 마스크
+    private final long[] unitDayFirst;   // 입력 칸 단위 요일 첫 칸
+    private final long[] unitDayLast;    // 입력 칸 단위 요일 마지막 칸
+
+    // 1시간 slot, 30분 단위 입력
+    public SlotGrid(int days, int slotsPerDay) {
+        this(days, slotsPerDay, 2, 1);
+    }
+
+    public SlotGrid(int days, int slotsPerDay, int unitsPerSlot, int bufferUnits) {
+        if (days < 0 || days > 31 || slotsPerDay < 0 || unitsPerSlot < 1 || unitsPerSlot > 2 || bufferUnits < 0) {
+            throw new IllegalArgumentException("invalid grid: " + days + "x" + slotsPerDay + "x" + unitsPerSlot);
+        }
+        this.days = days;
+        this.slotsPerDay = slotsPerDay;
+        this.totalSlots = days * slotsPerDay;
+        this.unitsPerSlot = unitsPerSlot;
+        this.bufferUnits = bufferUnits;
+        this.dayMasks = new long[days][];
+        int units = totalUnits();
+        this.unitDayFirst = BitMasks.create(units);
+        this.unitDayLast = BitMasks.create(units);
+        for (int day = 0; day < days; day++) {
+            dayMasks[day] = BitMasks.create(totalSlots);
+            BitMasks.setRange(dayMasks[day], dayStart(day), dayStart(day) + slotsPerDay);
+            if (slotsPerDay > 0) {
+                BitMasks.set(unitDayFirst, dayStart(day) * unitsPerSlot);
+                BitMasks.set(unitDayLast, (dayStart(day) + slotsPerDay) * unitsPerSlot - 1);
+            }
+        }
+    }
+
+    public int days() {
+        return days;
+    }
+
+    public int slotsPerDay() {
+        return slotsPerDay;
+    }
+
+    public int totalSlots() {
+        return totalSlots;
+    }
+
+    // 가용 시간 문자열 길이
+    public int totalUnits() {
+        return totalSlots * unitsPerSlot;
+    }
+
+    public int dayOf(int slot) {
+        return slot / slotsPerDay;
+    }
+
+    public int indexInDay(int slot) {
+        return slot % slotsPerDay;
+    }
+
+    public int dayStart(int day) {
+        return day * slotsPerDay;
+    }
+
+    public long[] dayMask(int day) {
+        return dayMasks[day];
+    }
+
+    // 입력 칸 단위 0/1 문자열 -> slot 마스크 (slot 을 이루는 칸이 모두 가능해야 slot 가능)
+    public long[] toSlotMask(String unitBits, boolean applyTravelTimeBuffer) {
+        return toUnitSlotMask(BitMasks.fromBitString(unitBits, totalUnits()), applyTravelTimeBuffer);
+    }
+
+    // 입력 칸 단위 비트 배열 (비트 i = words[i / 64] 의 i % 64 번째 비트), 격자보다 긴 부분은 무시
+    public long[] toSlotMask(long[] unitWords, boolean applyTravelTimeBuffer) {
+        int units = totalUnits();
+        long[] unitMask = BitMasks.create(units);
+        System.arraycopy(unitWords, 0, unitMask, 0, Math.min(unitWords.length, unitMask.length));
+        if ((units & 63) != 0 && unitMask.length > 0) {
+            unitMask[unitMask.length - 1] &= (1L << units) - 1;
+        }
+        return toUnitSlotMask(unitMask, applyTravelTimeBuffer);
+    }
+
+    private long[] toUnitSlotMask(long[] unitMask, boolean applyTravelTimeBuffer) {
+        if (applyTravelTimeBuffer) {
+            for (int i = 0; i < bufferUnits; i++) unitMask = applyBuffer(unitMask);
+        }
+        return unitsPerSlot == 2 ? BitMasks.compressPairs(unitMask, totalSlots) : unitMask;
+    }
+
+    // 이동시간 고려: 같은 요일 안에서 불가능한 칸의 앞뒤 칸도 불가능 처리 (bufferUnits 번 반복 = 앞뒤 30분)
+    private long[] applyBuffer(long[] unitMask) {
+        long[] prev = BitMasks.shiftUp(unitMask);
+        long[] next = BitMasks.shiftDown(unitMask);
+        long[] result = new long[unitMask.length];
+        for (int i = 0; i < unitMask.length; i++) {
+            result[i] = unitMask[i] & (prev[i] | unitDayFirst[i]) & (next[i] | unitDayLast[i]);
+        }
+        return result;
+    }
+
+    // 요일 중 불가능한 slot 이 하나라도 있는 날(수업 있는 날) 비트
+    public int lectureDays(long[] slotMask) {
+        int result = 0;
+        for (int day = 0; day < days; day++) {
+            if (!BitMasks.containsAll(slotMask, dayMasks[day])) result |= 1 << day;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,128 @@
+package com.j30ngwoo.scheduler.service.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.j30ngwoo.scheduler.domain.RefreshToken;
+import com.j30ngwoo.scheduler.repository.RefreshTokenRepository;
+import com.j30ngwoo.scheduler.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+// DB(token 컬럼에 SHA-256 해시, unique index) + 해시 -> 토큰 정보 캐시
+// 캐시 항목은 토큰 만료 시각과 max-ttl 중 빠른 쪽에 만료 (Caffeine 타이머 휠)
+// 같은 서버에서 교체 / 삭제된 토큰은 바로 제거, 다른 서버 캐시에는 최대 max-ttl 동안 남을 수 있음
+@Component
+@RequiredArgsConstructor
+public class CachingRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+
+    @Value("${auth.refresh-token.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${auth.refresh-token.cache.max-ttl:1m}")
+    private Duration maxTtl;
+
+    private Cache<String, StoredRefreshToken> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, StoredRefreshToken>() {
+                    @Override
+                    public long expireAfterCreate(String hash, StoredRefreshToken token, long currentTime) {
+                        Duration untilExpiry = Duration.between(LocalDateTime.now(), token.expiresAt());
+                        return Math.max(0, Math.min(untilExpiry.toNanos(), maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String hash, StoredRefreshToken token, long currentTime, long currentDuration) {
+                        return expireAfterCreate(hash, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String hash, StoredRefreshToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public void save(Long userId, String token, LocalDateTime expiresAt) {
+        String hash = hash(token);
+        RefreshToken refreshToken = refreshTokenRepository.findById(userId)
+                .orElse(RefreshToken.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .build());
+        String previousHash = refreshToken.getToken();
+
+        refreshToken.setToken(hash);
+        refreshToken.setExpiresAt(expiresAt);
+        refreshTokenRepository.save(refreshToken);
+
+        if (previousHash != null) cache.invalidate(previousHash);
+        cache.put(hash, new StoredRefreshToken(userId, expiresAt));
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> find(String token) {
+        String hash = hash(token);
+        StoredRefreshToken cached = cache.getIfPresent(hash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<RefreshToken> found = refreshTokenRepository.findByToken(hash)
+                .or(() -> refreshTokenRepository.findByToken(token).map(legacy -> {
+                    // 해시 저장 이전에 발급된 토큰: 해시로 교체
+                    legacy.setToken(hash);
+                    return refreshTokenRepository.save(legacy);
+                }));
+        found.ifPresent(row -> cache.put(hash, new StoredRefreshToken(row.getUserId(), row.getExpiresAt())));
+        return found.map(row -> new StoredRefreshToken(row.getUserId(), row.getExpiresAt()));
+    }
+
+    @Override
+    public void delete(String token) {
+        String hash = hash(token);
+        if (refreshTokenRepository.deleteByToken(hash) == 0) {
+            refreshTokenRepository.deleteByToken(token);
+        }
+        cache.invalidate(hash);
+    }
+
+    // 만료된 항목은 캐시에서도 이미 만료되어 있으므로 DB 만 정리
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return refreshTokenRepository.deleteExpiredByIds(ids, now);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
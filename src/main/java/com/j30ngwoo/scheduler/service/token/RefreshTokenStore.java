@@ -0,0 +1,24 @@
+package com.j30ngwoo.scheduler.service.token;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// refresh token 저장소. 사용자당 토큰 하나 (저장하면 이전 토큰은 무효)
+public interface RefreshTokenStore {
+
+    void save(Long userId, String token, LocalDateTime expiresAt);
+
+    // 만료 여부는 호출하는 쪽에서 확인
+    Optional<StoredRefreshToken> find(String token);
+
+    void delete(String token);
+
+    // 만료된 토큰을 최대 limit 개 삭제하고 삭제한 수 반환
+    int deleteExpired(LocalDateTime now, int limit);
+
+    record StoredRefreshToken(Long userId, LocalDateTime expiresAt) {
+        public boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.j30ngwoo.scheduler.service.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 만료된 refresh token 정리. chunk-size 개씩 나눠서 (chunk 마다 짧은 트랜잭션) 삭제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Value("${auth.refresh-token.sweep.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${auth.refresh-token.sweep.max-chunks:100}")
+    private int maxChunks;
+
+    @Scheduled(
+            initialDelayString = "${auth.refresh-token.sweep.interval:10m}",
+            fixedDelayString = "${auth.refresh-token.sweep.interval:10m}"
+    )
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            int count = refreshTokenStore.deleteExpired(now, chunkSize);
+            deleted += count;
+            if (count < chunkSize) break;
+        }
+        if (deleted > 0) {
+            log.info("[refresh token 정리] 만료 토큰 {}건 삭제", deleted);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.j30ngwoo.scheduler.config;
+
+import com.j30ngwoo.scheduler.common.exception.AppException;
+import com.j30ngwoo.scheduler.repository.AvailabilityBatchRepository;
+import com.j30ngwoo.scheduler.service.AvailabilityService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 클래스에 붙인 @Timed 가 CGLIB proxy + TimedAspect 로 메서드별 timer 를 남기는지 확인
+@SpringBootTest(properties = "management.server.port=0")
+class TimedMetricsTest {
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private AvailabilityBatchRepository availabilityBatchRepository;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void serviceCallsAreTimedPerMethodAndException() {
+        assertThat(AopUtils.isCglibProxy(availabilityService)).isTrue();
+
+        assertThatThrownBy(() -> availabilityService.getAvailabilityList("missing-code"))
+                .isInstanceOf(AppException.class);
+
+        Timer timer = registry.find("scheduler.availability")
+                .tag("method", "getAvailabilityList")
+                .tag("exception", "AppException")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void jdbcRepositoryCallsAreTimed() {
+        assertThat(AopUtils.isCglibProxy(availabilityBatchRepository)).isTrue();
+
+        availabilityBatchRepository.findIdsByParticipantName(1L, List.of());
+
+        Timer timer = registry.find("scheduler.repository.jdbc")
+                .tag("method", "findIdsByParticipantName")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
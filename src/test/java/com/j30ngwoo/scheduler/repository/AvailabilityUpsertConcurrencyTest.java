@@ -0,0 +1,152 @@
+package com.j30ngwoo.scheduler.repository;
+
+import com.j30ngwoo.scheduler.domain.AvailabilityBits;
+import com.j30ngwoo.scheduler.domain.AvailabilityBitsConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 스케줄 / 같은 참가자에 동시 제출이 몰려도 unique 제약 위반 없이 한 행으로 저장되는지 확인 (H2 MERGE)
+class AvailabilityUpsertConcurrencyTest {
+
+    private static final long SCHEDULE_ID = 1L;
+    private static final int THREADS = 32;
+    private static final int SUBMITS_PER_THREAD = 50;
+    private static final int PARTICIPANTS = 3;
+    private static final int LENGTH = 45;
+
+    private JdbcTemplate jdbcTemplate;
+    private AvailabilityBatchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:upsert-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", ""
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                create table availability (
+                    id bigint generated by default as identity primary key,
+                    schedule_id bigint not null,
+                    participant_name varchar(255) not null,
+                    availability_packed varbinary(128),
+                    updated_at timestamp(6),
+                    constraint uk_availability_schedule_participant unique (schedule_id, participant_name)
+                )""");
+        repository = new AvailabilityBatchRepository(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("shutdown");
+    }
+
+    @Test
+    void concurrentSubmitsForSameParticipantKeepOneRow() throws Exception {
+        Set<String> submitted = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>(THREADS);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < SUBMITS_PER_THREAD; i++) {
+                        String name = "participant-" + (i % PARTICIPANTS);
+                        AvailabilityBits bits = bits(thread * SUBMITS_PER_THREAD + i);
+                        submitted.add(name + ":" + bits.toBitString());
+                        repository.upsert(SCHEDULE_ID, name, bits, LocalDateTime.now());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+        }
+        // 예외가 있으면 여기서 ExecutionException
+        for (Future<?> result : results) result.get();
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "select count(*) from availability where schedule_id = ?", Integer.class, SCHEDULE_ID
+        );
+        assertThat(rows).isEqualTo(PARTICIPANTS);
+
+        for (int p = 0; p < PARTICIPANTS; p++) {
+            String name = "participant-" + p;
+            assertThat(repository.findId(SCHEDULE_ID, name)).isNotNull();
+            byte[] stored = jdbcTemplate.queryForObject(
+                    "select availability_packed from availability where schedule_id = ? and participant_name = ?",
+                    byte[].class, SCHEDULE_ID, name
+            );
+            AvailabilityBits bits = new AvailabilityBitsConverter().convertToEntityAttribute(stored);
+            assertThat(submitted).contains(name + ":" + bits.toBitString());
+        }
+    }
+
+    @Test
+    void concurrentBatchUpsertsAndSubmitsKeepOneRowPerParticipant() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>(THREADS);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < SUBMITS_PER_THREAD; i++) {
+                        if (thread % 2 == 0) {
+                            Map<String, AvailabilityBits> rows = new LinkedHashMap<>();
+                            for (int p = 0; p < PARTICIPANTS; p++) rows.put("participant-" + p, bits(thread + i + p));
+                            repository.batchUpsert(SCHEDULE_ID, rows, LocalDateTime.now());
+                        } else {
+                            repository.upsert(SCHEDULE_ID, "participant-" + (i % PARTICIPANTS), bits(i), LocalDateTime.now());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+        }
+        for (Future<?> result : results) result.get();
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "select count(*) from availability where schedule_id = ?", Integer.class, SCHEDULE_ID
+        );
+        assertThat(rows).isEqualTo(PARTICIPANTS);
+    }
+
+    @Test
+    void upsertUpdatesExistingRowInPlace() {
+        repository.upsert(SCHEDULE_ID, "A", bits(1), LocalDateTime.now());
+        Long id = repository.findId(SCHEDULE_ID, "A");
+
+        repository.upsert(SCHEDULE_ID, "A", bits(2), LocalDateTime.now());
+
+        assertThat(repository.findId(SCHEDULE_ID, "A")).isEqualTo(id);
+        assertThat(repository.findIdsByParticipantName(SCHEDULE_ID, List.of("A"))).containsOnlyKeys("A");
+    }
+
+    // seed 별로 다른 비트열
+    private static AvailabilityBits bits(int seed) {
+        StringBuilder sb = new StringBuilder(LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            sb.append(((seed >> (i % 16)) & 1) == 1 ? '1' : '0');
+        }
+        return AvailabilityBits.parse(sb.toString());
+    }
+}
@@ -0,0 +1,71 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.j30ngwoo.scheduler.domain.AvailabilityBits;
+import com.j30ngwoo.scheduler.service.availability.AvailabilityHeatmap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// commit 후 delta 반영: 겹치지 않은 쓰기는 그대로 반영, 같은 참가자의 겹친 쓰기는 집계를 버림
+class AvailabilityHeatmapStoreTest {
+
+    private static final long SCHEDULE_ID = 1L;
+
+    private AvailabilityHeatmapStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new AvailabilityHeatmapStore();
+        store.putIfUnchanged(SCHEDULE_ID, store.version(SCHEDULE_ID), new AvailabilityHeatmap(4));
+    }
+
+    @Test
+    void sequentialWritesApplyDeltas() {
+        store.put(store.begin(SCHEDULE_ID, "A"), AvailabilityBits.parse("1100"));
+        store.put(store.begin(SCHEDULE_ID, "A"), AvailabilityBits.parse("0011"));
+        store.put(store.begin(SCHEDULE_ID, "B"), AvailabilityBits.parse("0001"));
+
+        assertThat(store.get(SCHEDULE_ID).view(-1).counts()).containsExactly(0, 0, 1, 2);
+
+        store.remove(store.begin(SCHEDULE_ID, "A"));
+        assertThat(store.get(SCHEDULE_ID).view(-1).counts()).containsExactly(0, 0, 0, 1);
+    }
+
+    @Test
+    void overlappingWritesForSameParticipantDropHeatmap() {
+        AvailabilityHeatmapStore.Write first = store.begin(SCHEDULE_ID, "A");
+        AvailabilityHeatmapStore.Write second = store.begin(SCHEDULE_ID, "A");
+        long version = store.version(SCHEDULE_ID);
+
+        // DB 에는 first 가 나중에 저장됐어도 delta 는 second 가 나중에 도착할 수 있음
+        store.put(first, AvailabilityBits.parse("1000"));
+        assertThat(store.get(SCHEDULE_ID)).isNull();
+        store.put(second, AvailabilityBits.parse("0100"));
+        assertThat(store.get(SCHEDULE_ID)).isNull();
+        assertThat(store.version(SCHEDULE_ID)).isGreaterThan(version);
+
+        // 끝난 뒤의 쓰기는 다시 delta 로 반영
+        store.putIfUnchanged(SCHEDULE_ID, store.version(SCHEDULE_ID), new AvailabilityHeatmap(4));
+        store.put(store.begin(SCHEDULE_ID, "A"), AvailabilityBits.parse("0010"));
+        assertThat(store.get(SCHEDULE_ID).view(-1).counts()).containsExactly(0, 0, 1, 0);
+    }
+
+    @Test
+    void overlappingWritesForDifferentParticipantsApplyDeltas() {
+        AvailabilityHeatmapStore.Write a = store.begin(SCHEDULE_ID, "A");
+        AvailabilityHeatmapStore.Write b = store.begin(SCHEDULE_ID, "B");
+        store.put(b, AvailabilityBits.parse("0110"));
+        store.put(a, AvailabilityBits.parse("0100"));
+
+        assertThat(store.get(SCHEDULE_ID).view(-1).counts()).containsExactly(0, 2, 1, 0);
+    }
+
+    @Test
+    void cancelledWriteDoesNotCountAsOverlap() {
+        store.cancel(store.begin(SCHEDULE_ID, "A"));
+        store.put(store.begin(SCHEDULE_ID, "A"), AvailabilityBits.parse("1000"));
+
+        assertThat(store.get(SCHEDULE_ID).view(-1).counts()).containsExactly(1, 0, 0, 0);
+    }
+}
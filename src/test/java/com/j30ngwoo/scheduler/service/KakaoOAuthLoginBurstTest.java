@@ -0,0 +1,142 @@
+package com.j30ngwoo.scheduler.service;
+
+import com.j30ngwoo.scheduler.common.exception.AppException;
+import com.j30ngwoo.scheduler.config.RestClientConfig;
+import com.j30ngwoo.scheduler.domain.User;
+import com.j30ngwoo.scheduler.repository.UserRepository;
+import com.j30ngwoo.scheduler.service.oauth.KakaoApiGuard;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 로컬 카카오 stub 서버를 상대로 로그인 폭주 / 응답 지연 상황 확인
+class KakaoOAuthLoginBurstTest {
+
+    private static final int MAX_CONCURRENCY = 8;
+
+    private HttpServer stub;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile long delayMillis = 20;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.createContext("/oauth/token", exchange -> respond(exchange, "{\"access_token\":\"kakao-token\"}"));
+        stub.createContext("/v2/user/me", exchange -> respond(exchange, "{\"id\":42,\"properties\":{\"nickname\":\"tester\"}}"));
+        stub.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void loginBurstStaysWithinConcurrencyLimit() throws Exception {
+        KakaoOAuthService service = service(Duration.ofSeconds(2), new KakaoApiGuard(
+                MAX_CONCURRENCY, Duration.ofSeconds(10), 5, Duration.ofSeconds(10)
+        ));
+
+        int logins = 200;
+        List<Future<?>> results = new ArrayList<>(logins);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < logins; i++) {
+                results.add(executor.submit(() -> service.handleKakaoLoginCallback("code")));
+            }
+        }
+        for (Future<?> result : results) result.get();
+
+        // 로그인마다 토큰 + 사용자 정보 두 번, 동시 호출은 한도 이하
+        assertThat(hits.get()).isEqualTo(logins * 2);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+    }
+
+    @Test
+    void slowKakaoTimesOutThenBreakerFailsFast() {
+        delayMillis = 2_000;
+        KakaoApiGuard guard = new KakaoApiGuard(MAX_CONCURRENCY, Duration.ofMillis(500), 2, Duration.ofSeconds(30));
+        KakaoOAuthService service = service(Duration.ofMillis(200), guard);
+
+        // 토큰 요청이 시간 초과로 실패 (사용자 정보 요청까지 가지 않음), 두 번째 실패에서 차단
+        for (int i = 1; i <= 2; i++) {
+            assertThat(guard.isOpen()).isFalse();
+            assertThatThrownBy(() -> service.handleKakaoLoginCallback("code")).isInstanceOf(AppException.class);
+            assertThat(hits.get()).isEqualTo(i);
+        }
+        assertThat(guard.isOpen()).isTrue();
+
+        // 차단 중에는 카카오를 호출하지 않고 바로 실패
+        assertThatThrownBy(() -> service.handleKakaoLoginCallback("code")).isInstanceOf(AppException.class);
+        assertThat(hits.get()).isEqualTo(2);
+        assertThat(guard.isOpen()).isTrue();
+    }
+
+    private KakaoOAuthService service(Duration readTimeout, KakaoApiGuard guard) {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByKakaoId(anyLong())).thenReturn(Optional.of(new User(1L, 42L, "tester")));
+        AuthService authService = mock(AuthService.class);
+        when(authService.createAccessToken(anyLong())).thenReturn("access-token");
+        when(authService.createRefreshToken(anyLong())).thenReturn("refresh-token");
+
+        KakaoOAuthService service = new KakaoOAuthService(
+                new RestClientConfig().restClient(Duration.ofSeconds(1), readTimeout),
+                userRepository,
+                authService,
+                guard
+        );
+        String baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        ReflectionTestUtils.setField(service, "clientId", "client-id");
+        ReflectionTestUtils.setField(service, "clientSecret", "client-secret");
+        ReflectionTestUtils.setField(service, "redirectUri", "http://localhost/callback");
+        ReflectionTestUtils.setField(service, "authBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(service, "apiBaseUrl", baseUrl);
+        return service;
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        hits.incrementAndGet();
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(delayMillis);
+            byte[] body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {
+            // 클라이언트가 시간 초과로 먼저 끊은 경우
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.j30ngwoo.scheduler.service.availability;
+
+import com.j30ngwoo.scheduler.domain.AvailabilityBits;
+import com.j30ngwoo.scheduler.domain.AvailabilityBitsConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 옛 0/1 문자열 컬럼이 남은 DB 에서 읽을 수 없는 행은 건너뛰고, 이전 전/후 모두 같은 값을 읽는지 확인 (H2)
+class AvailabilityStorageMigrationTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AvailabilityStorageMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", ""
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                create table availability (
+                    id bigint generated by default as identity primary key,
+                    availability_bits varchar(255) not null,
+                    availability_packed varbinary(128)
+                )""");
+        jdbcTemplate.update("insert into availability (availability_bits) values ('0110'), ('01x0'), ('1')");
+        migration = new AvailabilityStorageMigration(jdbcTemplate);
+        ReflectionTestUtils.setField(migration, "enabled", true);
+        ReflectionTestUtils.setField(migration, "batchSize", 1);
+        migration.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        migration.shutdown();
+        jdbcTemplate.execute("shutdown");
+    }
+
+    @Test
+    void readsLegacyColumnBeforeMigration() {
+        assertThat(migration.readLegacy(1L).toBitString()).isEqualTo("0110");
+        assertThat(migration.readLegacy(2L).length()).isZero();
+        assertThat(migration.readLegacy(3L).toBitString()).isEqualTo("1");
+    }
+
+    @Test
+    void skipsMalformedRowsAndKeepsThemReadable() {
+        migration.migrate();
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "select id, availability_bits, availability_packed from availability order by id"
+        );
+        assertThat(rows.get(0).get("AVAILABILITY_BITS")).isNull();
+        assertThat(rows.get(0).get("AVAILABILITY_PACKED")).isNotNull();
+        assertThat(rows.get(1).get("AVAILABILITY_BITS")).isEqualTo("01x0");
+        assertThat(rows.get(1).get("AVAILABILITY_PACKED")).isNull();
+        assertThat(rows.get(2).get("AVAILABILITY_PACKED")).isNotNull();
+
+        assertThat(migration.readLegacy(1L).toBitString()).isEqualTo("0110");
+        assertThat(migration.readLegacy(2L).length()).isZero();
+    }
+
+    @Test
+    void keepsRowsSubmittedDuringMigration() {
+        byte[] submitted = new AvailabilityBitsConverter()
+                .convertToDatabaseColumn(AvailabilityBits.parse("1111"));
+        jdbcTemplate.update("update availability set availability_packed = ? where id = 1", (Object) submitted);
+
+        migration.migrate();
+
+        assertThat(migration.readLegacy(1L).toBitString()).isEqualTo("1111");
+        assertThat(jdbcTemplate.queryForObject("select availability_bits from availability where id = 1", String.class))
+                .isNull();
+    }
+
+    @Test
+    void stopsReadingLegacyColumnOnceEveryRowIsMigrated() {
+        jdbcTemplate.update("delete from availability where id = 2");
+
+        migration.migrate();
+
+        assertThat(migration.readLegacy(1L)).isNull();
+    }
+}
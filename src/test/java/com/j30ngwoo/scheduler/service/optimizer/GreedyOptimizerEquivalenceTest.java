@@ -0,0 +1,98 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 비트셋 그리디 (SlotGrid / BitMasks / GreedyOptimizer) 가 기존 문자열 그리디와 같은 배정을 내는지 무작위 입력으로 비교
+class GreedyOptimizerEquivalenceTest {
+
+    private static final int DAYS = 5;
+    private static final int CASES = 300;
+
+    @ParameterizedTest(name = "lectureDayPriority={0}, travelTimeBuffer={1}")
+    @CsvSource({"false, false", "true, false", "false, true", "true, true"})
+    void matchesLegacyGreedy(boolean lectureDayPriority, boolean travelTimeBuffer) {
+        Random random = new Random(31L * (lectureDayPriority ? 2 : 1) + (travelTimeBuffer ? 1 : 0));
+        for (int c = 0; c < CASES; c++) {
+            int startHour = 8 + random.nextInt(3);
+            int hoursPerDay = random.nextInt(14);
+            Integer minHours = random.nextBoolean() ? null : random.nextInt(5);
+            Integer maxHours = random.nextBoolean() ? null : 1 + random.nextInt(10);
+            int participantsPerSlot = random.nextInt(5);
+            List<LegacyGreedyOptimizer.Availability> availabilities =
+                    randomAvailabilities(random, hoursPerDay, travelTimeBuffer);
+
+            LegacyGreedyOptimizer.Schedule schedule = new LegacyGreedyOptimizer.Schedule(
+                    startHour, startHour + hoursPerDay, minHours, maxHours, participantsPerSlot
+            );
+            List<String> expected = new ArrayList<>();
+            for (LegacyGreedyOptimizer.Assignment a : LegacyGreedyOptimizer.optimize(
+                    schedule, availabilities, lectureDayPriority, travelTimeBuffer)) {
+                expected.add(a.slot().day() + "/" + a.slot().hourIndex() + ":" + a.assignee());
+            }
+
+            SlotGrid grid = new SlotGrid(DAYS, hoursPerDay);
+            int minQuota = minHours != null ? minHours : 0;
+            int maxQuota = maxHours != null ? maxHours : grid.totalSlots();
+            List<Participant> participants = new ArrayList<>();
+            for (LegacyGreedyOptimizer.Availability a : availabilities) {
+                long[] slotMask = grid.toSlotMask(a.getAvailabilityBits(), travelTimeBuffer);
+                participants.add(Participant.of(grid, a.getParticipantName(), slotMask, minQuota, maxQuota));
+            }
+            Roster roster = new GreedyOptimizer(grid, participantsPerSlot, lectureDayPriority).optimize(participants);
+            List<String> actual = new ArrayList<>();
+            for (int slot = 0; slot < roster.totalSlots(); slot++) {
+                for (int i = 0; i < roster.count(slot); i++) {
+                    actual.add(grid.dayOf(slot) + "/" + grid.indexInDay(slot) + ":" + roster.name(roster.participant(slot, i)));
+                }
+            }
+
+            assertThat(actual).as("case %d (%d participants, %dh/day, %d per slot)",
+                    c, availabilities.size(), hoursPerDay, participantsPerSlot).isEqualTo(expected);
+        }
+    }
+
+    // 30분 단위 0/1 문자열
+    // - 수업 있는 날 / 없는 날이 섞이도록 요일마다 가능 비율을 따로 정함
+    // - 같은 일정을 낸 참가자를 여럿 만들고 이름 순서를 섞어서 이름순 동률 처리를 확인
+    // - 버퍼 미적용이면 격자보다 짧은 (요일 중간에 끊긴) 문자열, 양쪽 모두 격자보다 긴 문자열도 포함
+    //   (기존 구현은 버퍼 적용 시 짧은 문자열을 처리하지 못함)
+    private static List<LegacyGreedyOptimizer.Availability> randomAvailabilities(
+            Random random, int hoursPerDay, boolean travelTimeBuffer
+    ) {
+        int units = DAYS * hoursPerDay * 2;
+        int count = 1 + random.nextInt(25);
+        List<LegacyGreedyOptimizer.Availability> result = new ArrayList<>(count);
+        List<String> names = new ArrayList<>(count);
+        for (int p = 0; p < count; p++) names.add(String.valueOf((char) ('a' + random.nextInt(26))) + p);
+        Collections.shuffle(names, random);
+
+        String bits = null;
+        for (String name : names) {
+            if (bits == null || random.nextInt(3) != 0) {
+                StringBuilder sb = new StringBuilder(units + 4);
+                for (int day = 0; day < DAYS; day++) {
+                    double density = random.nextInt(4) == 0 ? 1.0 : random.nextDouble();
+                    for (int i = 0; i < hoursPerDay * 2; i++) {
+                        if (i > 0 && random.nextInt(6) == 0) sb.append(sb.charAt(sb.length() - 1));
+                        else sb.append(random.nextDouble() < density ? '1' : '0');
+                    }
+                }
+                bits = sb.toString();
+                if (!travelTimeBuffer && !bits.isEmpty() && random.nextInt(10) == 0) {
+                    bits = bits.substring(0, random.nextInt(bits.length()));
+                }
+                if (random.nextInt(10) == 0) bits = bits + "0101";
+            }
+            result.add(new LegacyGreedyOptimizer.Availability(name, bits));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,255 @@
+package com.j30ngwoo.scheduler.service.optimizer;
+
+import java.time.LocalTime;
+import java.util.*;
+
+// 비트셋 엔진 이전의 0/1 문자열 그리디 (기존 ScheduleOptimizerService 에서 로그만 뺀 것). 동등성 테스트의 기준으로만 사용
+final class LegacyGreedyOptimizer {
+
+    private LegacyGreedyOptimizer() {
+    }
+
+    record Schedule(
+            int getStartHour,
+            int getEndHour,
+            Integer getMinHoursPerParticipant,
+            Integer getMaxHoursPerParticipant,
+            int getParticipantsPerSlot
+    ) {}
+
+    record Availability(String getParticipantName, String getAvailabilityBits) {}
+
+    static List<Assignment> optimize(
+            Schedule schedule,
+            List<Availability> availList,
+            boolean isLectureDayWorkPriority,
+            boolean applyTravelTimeBuffer
+    ) {
+        int startHour = schedule.getStartHour();
+        int endHour = schedule.getEndHour();
+        int hoursPerDay = endHour - startHour;
+        int days = 5;
+        int totalSlots = hoursPerDay * days;
+
+        // slot 정보 생성
+        List<TimeSlot> slots = new ArrayList<>(totalSlots);
+        for (int day = 0; day < days; day++) {
+            for (int h = 0; h < hoursPerDay; h++) {
+                slots.add(new TimeSlot(day, h,
+                        LocalTime.of(startHour + h, 0),
+                        LocalTime.of(startHour + h + 1, 0)
+                ));
+            }
+        }
+
+        // 참가자별 가능한 slot 계산, ParticipantInfo 생성
+        List<ParticipantInfo> participants = new ArrayList<>();
+        for (Availability a : availList) {
+            String name = a.getParticipantName();
+            String bits = a.getAvailabilityBits();
+            if (applyTravelTimeBuffer) {
+                bits = applyBuffer(bits, days, hoursPerDay);
+            }
+            String slotBits = toSlotBits(bits, days, hoursPerDay);
+            List<Integer> possibleSlots = new ArrayList<>();
+            for (int i = 0; i < slotBits.length(); i++) {
+                if (slotBits.charAt(i) == '1') {
+                    possibleSlots.add(i);
+                }
+            }
+            int minQuota = schedule.getMinHoursPerParticipant() != null ? schedule.getMinHoursPerParticipant() : 0;
+            int maxQuota = schedule.getMaxHoursPerParticipant() != null ? schedule.getMaxHoursPerParticipant() : totalSlots;
+            participants.add(new ParticipantInfo(name, slotBits, minQuota, maxQuota, possibleSlots));
+        }
+
+        // 할당 기회가 적은 사람부터 오름차순 정렬
+        participants.sort(Comparator.comparingInt(p -> p.possibleSlots.size()));
+
+        // slot별 배정 현황
+        List<List<String>> slotAssignments = new ArrayList<>(totalSlots);
+        for (int i = 0; i < totalSlots; i++) slotAssignments.add(new ArrayList<>());
+
+        // 1차 배정
+        for (ParticipantInfo pi : participants) {
+            int assigned = 0;
+            List<Segment> segments = extractSegmentsGlobal(
+                    pi.slotBits, slotAssignments, schedule.getParticipantsPerSlot(), days, hoursPerDay
+            );
+            segments.sort((s1, s2) -> {
+                if (isLectureDayWorkPriority) {
+                    boolean s1IsLectureDay = isLectureDayForSegment(s1, pi, days, hoursPerDay);
+                    boolean s2IsLectureDay = isLectureDayForSegment(s2, pi, days, hoursPerDay);
+                    if (s1IsLectureDay && !s2IsLectureDay) return -1;
+                    if (!s1IsLectureDay && s2IsLectureDay) return 1;
+                }
+                return Integer.compare(s2.length, s1.length);
+            });
+            for (Segment seg : segments) {
+                for (int i = 0; i < seg.length; i++) {
+                    int slotIdx = seg.start + i;
+                    if (assigned >= pi.maxQuota) {
+                        break;
+                    }
+                    if (slotAssignments.get(slotIdx).size() >= schedule.getParticipantsPerSlot()) {
+                        continue;
+                    }
+                    slotAssignments.get(slotIdx).add(pi.name);
+                    assigned++;
+                }
+                if (assigned >= pi.maxQuota) break;
+            }
+            pi.assignedCount = assigned;
+        }
+
+        // 2차: quota 못 채운 참가자 위주로 남은 slot 채우기
+        for (int slotIdx = 0; slotIdx < totalSlots; slotIdx++) {
+            final int currentSlotIdx = slotIdx;
+            while (slotAssignments.get(slotIdx).size() < schedule.getParticipantsPerSlot()) {
+                // quota 미달 + 배정 가능 + 아직 이 slot에 안 배정된 인원만 후보
+                List<ParticipantInfo> candidates = new ArrayList<>();
+                for (ParticipantInfo pi : participants) {
+                    if (pi.assignedCount >= pi.maxQuota) continue;
+                    if (pi.slotBits.charAt(slotIdx) != '1') continue;
+                    if (slotAssignments.get(slotIdx).contains(pi.name)) continue;
+                    candidates.add(pi);
+                }
+                if (candidates.isEmpty()) {
+                    break;
+                }
+                // 우선순위: 1. quota 적게 받은 사람 2. 수업 있는 날 옵션 3. 연속성 4. 이름순
+                candidates.sort((a, b) -> {
+                    int cmp = Integer.compare(a.assignedCount, b.assignedCount);
+                    if (cmp != 0) return cmp;
+                    if (isLectureDayWorkPriority) {
+                        boolean aLecture = hasLecture(a, currentSlotIdx, days, hoursPerDay);
+                        boolean bLecture = hasLecture(b, currentSlotIdx, days, hoursPerDay);
+                        if (aLecture && !bLecture) return -1;
+                        if (!aLecture && bLecture) return 1;
+                    }
+                    int aCont = isContiguousAssigned(slotAssignments, currentSlotIdx, a.name, days, hoursPerDay) ? -1 : 0;
+                    int bCont = isContiguousAssigned(slotAssignments, currentSlotIdx, b.name, days, hoursPerDay) ? -1 : 0;
+                    if (aCont != bCont) return aCont - bCont;
+                    return a.name.compareTo(b.name);
+                });
+                ParticipantInfo picked = candidates.get(0);
+                slotAssignments.get(slotIdx).add(picked.name);
+                picked.assignedCount++;
+            }
+        }
+
+        List<Assignment> result = new ArrayList<>();
+        for (int idx = 0; idx < totalSlots; idx++) {
+            for (String name : slotAssignments.get(idx)) {
+                result.add(new Assignment(slots.get(idx), name));
+            }
+        }
+        return result;
+    }
+
+    // 이동시간 고려
+    private static String applyBuffer(String bits, int days, int hoursPerDay) {
+        char[] arr = bits.toCharArray();
+        char[] result = Arrays.copyOf(arr, arr.length);
+        int slotsPerDay = hoursPerDay * 2;
+        for (int day = 0; day < days; day++) {
+            int base = day * slotsPerDay;
+            for (int i = 0; i < slotsPerDay; i++) {
+                int idx = base + i;
+                if (arr[idx] == '0') {
+                    // 앞
+                    int prev = idx - 1;
+                    if (prev >= base) result[prev] = '0';
+                    // 뒤
+                    int next = idx + 1;
+                    if (next < base + slotsPerDay) result[next] = '0';
+                }
+            }
+        }
+        return new String(result);
+    }
+
+    // half-hour bits → slot별 1/0 변환
+    private static String toSlotBits(String bits, int days, int hours) {
+        StringBuilder sb = new StringBuilder();
+        for (int day = 0; day < days; day++) {
+            int base = day * hours * 2;
+            for (int h = 0; h < hours; h++) {
+                int bitIdx1 = base + h * 2;
+                int bitIdx2 = bitIdx1 + 1;
+                boolean can = bitIdx2 < bits.length()
+                        && bits.charAt(bitIdx1) == '1'
+                        && bits.charAt(bitIdx2) == '1';
+                sb.append(can ? '1' : '0');
+            }
+        }
+        return sb.toString();
+    }
+
+    // 전체 slotBits에서 연속 구간 추출
+    private static List<Segment> extractSegmentsGlobal(
+            String bits, List<List<String>> slotAssignments, int maxPerSlot, int days, int hoursPerDay) {
+        List<Segment> segs = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            int base = day * hoursPerDay;
+            int idx = base;
+            while (idx < base + hoursPerDay) {
+                if (bits.charAt(idx) == '1' && slotAssignments.get(idx).size() < maxPerSlot) {
+                    int start = idx;
+                    while (
+                            idx < base + hoursPerDay &&
+                                    bits.charAt(idx) == '1' &&
+                                    slotAssignments.get(idx).size() < maxPerSlot
+                    ) idx++;
+                    segs.add(new Segment(start, idx - start));
+                } else {
+                    idx++;
+                }
+            }
+        }
+        return segs;
+    }
+
+    private static boolean isLectureDayForSegment(Segment seg, ParticipantInfo p, int days, int hoursPerDay) {
+        int day = seg.start / hoursPerDay;
+        int dayStart = day * hoursPerDay;
+        int dayEnd = dayStart + hoursPerDay;
+        for (int j = dayStart; j < dayEnd; j++) {
+            if (p.slotBits.charAt(j) == '0') {
+                return true; // 이 요일은 수업 있는 날!
+            }
+        }
+        return false; // 이 요일은 수업 없는 날
+    }
+
+    // 수업 있는 날 옵션
+    private static boolean hasLecture(ParticipantInfo p, int slotIdx, int days, int hoursPerDay) {
+        int day = slotIdx / hoursPerDay;
+        int start = day * hoursPerDay;
+        for (int i = start; i < start + hoursPerDay; i++) {
+            if (p.slotBits.charAt(i) == '0') return true;
+        }
+        return false;
+    }
+
+    // 연속 배정 여부(직전/직후)
+    private static boolean isContiguousAssigned(List<List<String>> slotAssignments, int slotIdx, String name, int days, int hoursPerDay) {
+        int prev = slotIdx - 1;
+        int next = slotIdx + 1;
+        return (prev >= 0 && slotAssignments.get(prev).contains(name)) ||
+                (next < slotAssignments.size() && slotAssignments.get(next).contains(name));
+    }
+
+    private static class ParticipantInfo {
+        String name;
+        String slotBits; // slot별 가능여부 ('1','0')
+        int minQuota, maxQuota;
+        List<Integer> possibleSlots;
+        int assignedCount = 0;
+        ParticipantInfo(String n, String b, int min, int max, List<Integer> possibleSlots) {
+            name = n; slotBits = b; minQuota = min; maxQuota = max; this.possibleSlots = possibleSlots;
+        }
+    }
+    private record Segment(int start, int length) {}
+    record TimeSlot(int day, int hourIndex, LocalTime start, LocalTime end) {}
+    record Assignment(TimeSlot slot, String assignee) {}
+}